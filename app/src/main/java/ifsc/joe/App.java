@@ -1,12 +1,16 @@
 package ifsc.joe;
 
 import ifsc.joe.ui.JanelaJogo;
+import ifsc.joe.utils.PreCarregador;
 import javax.swing.*;
 
 public class App {
     public static void main(String[] args) {
+        // Sprites e sons são decodificados em paralelo enquanto a janela é montada
+        PreCarregador carregador = PreCarregador.iniciar();
         SwingUtilities.invokeLater(() -> {
             JanelaJogo janela = new JanelaJogo();
+            janela.aoPrimeiroQuadro(carregador::registrarPrimeiroQuadro);
             janela.exibir();
         });
     }
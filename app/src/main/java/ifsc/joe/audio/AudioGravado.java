@@ -0,0 +1,55 @@
+package ifsc.joe.audio;
+
+import ifsc.joe.enums.TipoSom;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Destino que não toca nada, apenas conta os sons pedidos por tipo.
+ * Permite verificar quais sons uma execução sem interface teria tocado.
+ */
+public class AudioGravado implements DestinoAudio {
+
+    private static final TipoSom[] SONS = TipoSom.values();
+
+    private final AtomicLongArray contagens = new AtomicLongArray(SONS.length);
+
+    @Override
+    public void tocarSom(TipoSom som) {
+        contagens.incrementAndGet(som.ordinal());
+    }
+
+    /**
+     * Retorna quantas vezes o som foi pedido.
+     */
+    public long getContagem(TipoSom som) {
+        return contagens.get(som.ordinal());
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (int i = 0; i < contagens.length(); i++) {
+            total += contagens.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Zera as contagens.
+     */
+    public void limpar() {
+        for (int i = 0; i < contagens.length(); i++) {
+            contagens.set(i, 0);
+        }
+    }
+
+    @Override
+    public String gerarRelatorio() {
+        StringJoiner relatorio = new StringJoiner(", ", "Sons gravados: ", "");
+        for (TipoSom som : SONS) {
+            relatorio.add(som.name().toLowerCase() + " " + getContagem(som));
+        }
+        return relatorio.toString();
+    }
+}
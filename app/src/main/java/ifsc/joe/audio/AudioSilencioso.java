@@ -0,0 +1,20 @@
+package ifsc.joe.audio;
+
+import ifsc.joe.enums.TipoSom;
+
+/**
+ * Destino que ignora todos os sons, sem tocar no sistema de áudio.
+ * Usado para medir a simulação sem o custo do som.
+ */
+public class AudioSilencioso implements DestinoAudio {
+
+    @Override
+    public void tocarSom(TipoSom som) {
+        // Sem som
+    }
+
+    @Override
+    public String gerarRelatorio() {
+        return "Sons: desligados";
+    }
+}
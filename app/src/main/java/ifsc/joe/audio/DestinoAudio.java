@@ -0,0 +1,44 @@
+package ifsc.joe.audio;
+
+import ifsc.joe.enums.TipoSom;
+
+/**
+ * Para onde vão os efeitos sonoros pedidos pelo jogo: o mixer real, nenhum
+ * lugar (execuções sem interface) ou uma contagem (verificações).
+ * Escolhido na inicialização pelo {@link ifsc.joe.utils.GerenciadorAudio}.
+ * <p>
+ * {@link #tocarSom(TipoSom)} é chamado pelas threads consumidoras de eventos
+ * e não deve bloquear.
+ */
+public interface DestinoAudio {
+
+    /**
+     * Prepara um som antes do primeiro uso. Pode ser chamado por várias
+     * threads ao mesmo tempo, para sons diferentes. Por padrão não faz nada.
+     *
+     * @param som efeito a preparar
+     */
+    default void carregarSom(TipoSom som) {
+    }
+
+    /**
+     * Prepara todos os sons, um de cada vez.
+     */
+    default void carregarSons() {
+        for (TipoSom som : TipoSom.values()) {
+            carregarSom(som);
+        }
+    }
+
+    /**
+     * Pede um efeito sonoro.
+     *
+     * @param som efeito a tocar
+     */
+    void tocarSom(TipoSom som);
+
+    /**
+     * Gera um resumo de uma linha com os contadores do destino.
+     */
+    String gerarRelatorio();
+}
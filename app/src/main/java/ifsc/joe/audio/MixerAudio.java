@@ -0,0 +1,358 @@
+package ifsc.joe.audio;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.TipoSom;
+import ifsc.joe.utils.PacoteAssets;
+
+import javax.sound.sampled.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Destino de áudio real: mixa os efeitos sonoros e os toca pelo javax.sound.
+ * <p>
+ * Os arquivos WAV são decodificados uma única vez para PCM de 16 bits, no
+ * formato do mixer ({@link Constantes.Audio}). Uma única thread mistura as
+ * vozes ativas, até {@link Constantes.Audio#MAX_VOZES}, em uma só
+ * {@link SourceDataLine}; tocar um som apenas conta um pedido para o seu tipo.
+ * <p>
+ * A cada bloco o mixer agenda os pedidos: pedidos de um som que já começou a
+ * tocar há menos de {@link Constantes.Audio#JANELA_AGRUPAMENTO_MS} viram uma
+ * única voz, com volume proporcional à raiz da quantidade; com as vozes
+ * ocupadas, sons de prioridade maior ({@link TipoSom#getPrioridade()})
+ * tomam o lugar dos de prioridade menor e os demais são descartados.
+ * Assim threads, vozes e latência não crescem com a quantidade de sons.
+ */
+public class MixerAudio implements DestinoAudio {
+
+    private static final AudioFormat FORMATO = new AudioFormat(Constantes.Audio.TAXA_AMOSTRAGEM, 16,
+            Constantes.Audio.CANAIS, true, false);
+    private static final short[] SEM_AMOSTRA = new short[0];
+    private static final TipoSom[] SONS = TipoSom.values();
+    // Ordem em que os pedidos são agendados: os mais importantes pegam as vozes livres primeiro
+    private static final TipoSom[] SONS_POR_PRIORIDADE = Arrays.stream(SONS)
+            .sorted(Comparator.comparingInt(TipoSom::getPrioridade).reversed())
+            .toArray(TipoSom[]::new);
+    private static final int JANELA_AGRUPAMENTO = Math.round(Constantes.Audio.TAXA_AMOSTRAGEM
+            * Constantes.Audio.JANELA_AGRUPAMENTO_MS / 1000) * Constantes.Audio.CANAIS;
+
+    // Amostras em PCM estéreo intercalado, por som
+    private final Map<TipoSom, short[]> amostras;
+    // Pedidos ainda não agendados pelo mixer, por som
+    private final AtomicIntegerArray pendentes;
+    private Thread mixer;
+    private volatile boolean semSaida;
+
+    // Vozes do mixer (só a thread do mixer acessa)
+    private final TipoSom[] somVoz = new TipoSom[Constantes.Audio.MAX_VOZES];
+    private final short[][] amostraVoz = new short[Constantes.Audio.MAX_VOZES][];
+    private final int[] posicaoVoz = new int[Constantes.Audio.MAX_VOZES];
+    private final int[] pedidosVoz = new int[Constantes.Audio.MAX_VOZES];
+    private final int[] ganhoVoz = new int[Constantes.Audio.MAX_VOZES];
+    private int vozesAtivas;
+
+    // Contadores publicados
+    private final AtomicLong sonsPedidos;
+    private final AtomicLong vozesIniciadas;
+    private final AtomicLong sonsAgrupados;
+    private final AtomicLong sonsDescartados;
+
+    public MixerAudio() {
+        this.amostras = new ConcurrentHashMap<>();
+        this.pendentes = new AtomicIntegerArray(SONS.length);
+        this.sonsPedidos = new AtomicLong();
+        this.vozesIniciadas = new AtomicLong();
+        this.sonsAgrupados = new AtomicLong();
+        this.sonsDescartados = new AtomicLong();
+    }
+
+    /**
+     * Decodifica o som uma única vez. Chamado na inicialização do jogo; se não
+     * for, acontece no primeiro pedido do som.
+     */
+    @Override
+    public void carregarSom(TipoSom som) {
+        amostras.computeIfAbsent(som, s -> decodificar(s.getArquivo()));
+    }
+
+    /**
+     * Não bloqueia nem aloca: o pedido é contado e o mixer o agenda no próximo bloco.
+     */
+    @Override
+    public void tocarSom(TipoSom som) {
+        if (semSaida)
+            return;
+
+        if (!amostras.containsKey(som)) {
+            carregarSom(som);
+        }
+        sonsPedidos.incrementAndGet();
+        pendentes.incrementAndGet(som.ordinal());
+        LockSupport.unpark(iniciarMixer());
+    }
+
+    public long getSonsPedidos() {
+        return sonsPedidos.get();
+    }
+
+    /**
+     * Retorna quantas vozes o mixer iniciou (cada uma pode reunir vários pedidos).
+     */
+    public long getVozesIniciadas() {
+        return vozesIniciadas.get();
+    }
+
+    /**
+     * Retorna quantos pedidos foram somados a uma voz do mesmo som, em vez de ganhar uma voz.
+     */
+    public long getSonsAgrupados() {
+        return sonsAgrupados.get();
+    }
+
+    /**
+     * Retorna quantos pedidos foram descartados por falta de voz, somados às
+     * vozes interrompidas por um som de prioridade maior.
+     */
+    public long getSonsDescartados() {
+        return sonsDescartados.get();
+    }
+
+    @Override
+    public String gerarRelatorio() {
+        return String.format("Sons: %d pedidos, %d vozes, %d agrupados, %d descartados",
+                getSonsPedidos(), getVozesIniciadas(), getSonsAgrupados(), getSonsDescartados());
+    }
+
+    private synchronized Thread iniciarMixer() {
+        if (mixer == null) {
+            mixer = new Thread(this::misturar, "audio-mixer");
+            mixer.setDaemon(true);
+            mixer.start();
+        }
+        return mixer;
+    }
+
+    /**
+     * Lê o arquivo e o converte para PCM de 16 bits na taxa e nos canais do mixer.
+     * Em caso de erro, retorna uma amostra vazia (o erro é informado uma vez só).
+     */
+    private short[] decodificar(String nomeArquivo) {
+        InputStream entrada = PacoteAssets.getInstancia().abrirArquivo(nomeArquivo);
+        if (entrada == null) {
+            System.err.println("[AUDIO] Arquivo não encontrado: " + nomeArquivo);
+            return SEM_AMOSTRA;
+        }
+
+        // O fluxo do PacoteAssets suporta mark/reset, exigido para identificar o formato
+        try (AudioInputStream original = AudioSystem.getAudioInputStream(entrada)) {
+            AudioFormat formato = original.getFormat();
+            int canais = formato.getChannels();
+            AudioFormat pcm = new AudioFormat(formato.getSampleRate(), 16, canais, true, false);
+            try (AudioInputStream convertido = AudioSystem.getAudioInputStream(pcm, original)) {
+                return reamostrar(convertido.readAllBytes(), canais, formato.getSampleRate());
+            }
+        } catch (UnsupportedAudioFileException | IllegalArgumentException e) {
+            System.err.println("[AUDIO] Formato inválido para " + nomeArquivo + ": " + e.getMessage());
+            System.err.println("Certifique-se de usar arquivos .WAV PCM 16-bit (não MP3 renomeados).");
+        } catch (IOException e) {
+            System.err.println("[AUDIO] Erro ao carregar " + nomeArquivo + ": " + e.getMessage());
+        }
+        return SEM_AMOSTRA;
+    }
+
+    /**
+     * Converte PCM de 16 bits little-endian para o formato do mixer, com
+     * interpolação linear na taxa e duplicando o canal de sons mono.
+     */
+    private static short[] reamostrar(byte[] bytes, int canais, float taxaOrigem) {
+        int quadrosOrigem = bytes.length / (2 * canais);
+        if (quadrosOrigem == 0)
+            return SEM_AMOSTRA;
+
+        double passo = taxaOrigem / Constantes.Audio.TAXA_AMOSTRAGEM;
+        int quadros = (int) ((quadrosOrigem - 1) / passo) + 1;
+        int canaisSaida = Constantes.Audio.CANAIS;
+        short[] saida = new short[quadros * canaisSaida];
+
+        for (int q = 0; q < quadros; q++) {
+            double posicao = q * passo;
+            int anterior = (int) posicao;
+            int proximo = Math.min(anterior + 1, quadrosOrigem - 1);
+            double fracao = posicao - anterior;
+            for (int c = 0; c < canaisSaida; c++) {
+                int canal = Math.min(c, canais - 1);
+                int a = lerAmostra(bytes, anterior * canais + canal);
+                int b = lerAmostra(bytes, proximo * canais + canal);
+                saida[q * canaisSaida + c] = (short) Math.round(a + (b - a) * fracao);
+            }
+        }
+        return saida;
+    }
+
+    private static int lerAmostra(byte[] bytes, int indice) {
+        return (short) ((bytes[indice * 2] & 0xFF) | (bytes[indice * 2 + 1] << 8));
+    }
+
+    /**
+     * Laço da thread do mixer: agenda os pedidos, soma as vozes ativas em
+     * blocos e os escreve na linha de saída (a escrita bloqueia e dá o ritmo).
+     * Sem vozes, a thread dorme até o próximo pedido.
+     */
+    private void misturar() {
+        SourceDataLine linha;
+        try {
+            linha = AudioSystem.getSourceDataLine(FORMATO);
+            linha.open(FORMATO, Constantes.Audio.QUADROS_POR_BLOCO * FORMATO.getFrameSize()
+                    * Constantes.Audio.BLOCOS_NA_LINHA);
+            linha.start();
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            System.err.println("[AUDIO] Saída de áudio indisponível, sons desabilitados: " + e.getMessage());
+            semSaida = true;
+            return;
+        }
+
+        int tamanhoBloco = Constantes.Audio.QUADROS_POR_BLOCO * Constantes.Audio.CANAIS;
+        int[] soma = new int[tamanhoBloco];
+        byte[] bloco = new byte[tamanhoBloco * 2];
+
+        while (true) {
+            agendarPedidos();
+            if (vozesAtivas == 0) {
+                LockSupport.park(this);
+                continue;
+            }
+
+            misturarBloco(soma);
+            for (int k = 0; k < tamanhoBloco; k++) {
+                int amostra = Math.min(Math.max(soma[k], Short.MIN_VALUE), Short.MAX_VALUE);
+                bloco[k * 2] = (byte) amostra;
+                bloco[k * 2 + 1] = (byte) (amostra >> 8);
+            }
+            linha.write(bloco, 0, bloco.length);
+        }
+    }
+
+    /**
+     * Transforma os pedidos pendentes em vozes, dos sons mais importantes
+     * para os menos: agrupa com uma voz recente do mesmo som, ocupa uma voz
+     * livre, toma a voz de menor prioridade ou é descartado.
+     */
+    private void agendarPedidos() {
+        for (TipoSom som : SONS_POR_PRIORIDADE) {
+            int pedidos = pendentes.getAndSet(som.ordinal(), 0);
+            if (pedidos == 0)
+                continue;
+
+            short[] amostra = amostras.get(som);
+            if (amostra.length == 0)
+                continue;
+
+            int recente = procurarVozRecente(som);
+            if (recente >= 0) {
+                pedidosVoz[recente] += pedidos;
+                ganhoVoz[recente] = calcularGanho(pedidosVoz[recente]);
+                sonsAgrupados.addAndGet(pedidos);
+                continue;
+            }
+
+            int voz = vozesAtivas;
+            if (voz == Constantes.Audio.MAX_VOZES) {
+                voz = procurarVozSubstituivel(som.getPrioridade());
+                if (voz < 0) {
+                    sonsDescartados.addAndGet(pedidos);
+                    continue;
+                }
+                sonsDescartados.incrementAndGet();
+            } else {
+                vozesAtivas++;
+            }
+
+            somVoz[voz] = som;
+            amostraVoz[voz] = amostra;
+            posicaoVoz[voz] = 0;
+            pedidosVoz[voz] = pedidos;
+            ganhoVoz[voz] = calcularGanho(pedidos);
+            vozesIniciadas.incrementAndGet();
+            sonsAgrupados.addAndGet(pedidos - 1);
+        }
+    }
+
+    /**
+     * Retorna a voz do som que começou dentro da janela de agrupamento, ou -1.
+     */
+    private int procurarVozRecente(TipoSom som) {
+        for (int v = 0; v < vozesAtivas; v++) {
+            if (somVoz[v] == som && posicaoVoz[v] < JANELA_AGRUPAMENTO) {
+                return v;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna a voz de menor prioridade (a mais adiantada, no empate), se não
+     * for mais importante que o novo som; senão -1.
+     */
+    private int procurarVozSubstituivel(int prioridade) {
+        int escolhida = -1;
+        for (int v = 0; v < vozesAtivas; v++) {
+            int prioridadeVoz = somVoz[v].getPrioridade();
+            if (prioridadeVoz > prioridade)
+                continue;
+            int prioridadeEscolhida = escolhida < 0 ? Integer.MAX_VALUE : somVoz[escolhida].getPrioridade();
+            if (prioridadeVoz < prioridadeEscolhida
+                    || (prioridadeVoz == prioridadeEscolhida && posicaoVoz[v] > posicaoVoz[escolhida])) {
+                escolhida = v;
+            }
+        }
+        return escolhida;
+    }
+
+    /**
+     * Volume, em 1/256, de uma voz que reúne a quantidade de pedidos informada.
+     */
+    private static int calcularGanho(int pedidos) {
+        return (int) Math.min(Constantes.Audio.GANHO_MAXIMO,
+                Math.round(Constantes.Audio.GANHO_BASE * Math.sqrt(pedidos)));
+    }
+
+    /**
+     * Soma um bloco das vozes ativas, cada uma com seu volume, e remove as que terminaram.
+     */
+    private void misturarBloco(int[] soma) {
+        Arrays.fill(soma, 0);
+        for (int v = 0; v < vozesAtivas; v++) {
+            short[] amostra = amostraVoz[v];
+            int inicio = posicaoVoz[v];
+            int ganho = ganhoVoz[v];
+            int quantidade = Math.min(soma.length, amostra.length - inicio);
+            for (int k = 0; k < quantidade; k++) {
+                soma[k] += (amostra[inicio + k] * ganho) >> 8;
+            }
+            posicaoVoz[v] = inicio + quantidade;
+            if (posicaoVoz[v] >= amostra.length) {
+                // Voz terminada: a última ocupa seu lugar
+                removerVoz(v);
+                v--;
+            }
+        }
+    }
+
+    private void removerVoz(int v) {
+        int ultima = --vozesAtivas;
+        somVoz[v] = somVoz[ultima];
+        amostraVoz[v] = amostraVoz[ultima];
+        posicaoVoz[v] = posicaoVoz[ultima];
+        pedidosVoz[v] = pedidosVoz[ultima];
+        ganhoVoz[v] = ganhoVoz[ultima];
+        somVoz[ultima] = null;
+        amostraVoz[ultima] = null;
+    }
+}
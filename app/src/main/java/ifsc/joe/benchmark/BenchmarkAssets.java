@@ -0,0 +1,119 @@
+package ifsc.joe.benchmark;
+
+import ifsc.joe.utils.PacoteAssets;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Compara a leitura de todos os arquivos do manifesto pelo classpath (uma
+ * busca por arquivo, com descompressão dentro do JAR) e pelo pacote mapeado
+ * em memória ({@link PacoteAssets}). Os dois leitores fazem o mesmo trabalho:
+ * copiam o conteúdo inteiro de cada arquivo para um vetor.
+ * <p>
+ * A primeira passada de cada leitor é a que importa na inicialização; as
+ * seguintes mostram o custo com tudo já em cache. Para medir só a partida a
+ * frio de um leitor, use {@code -Djoe.benchmark.assets=classpath} ou
+ * {@code pacote}, uma JVM por vez. A tarefa Gradle coloca o JAR antes das
+ * pastas de build no classpath, como na aplicação distribuída.
+ * <pre>
+ * ./gradlew benchmarkAssets
+ * </pre>
+ */
+public class BenchmarkAssets {
+
+    private static final String PROPRIEDADE_LEITOR = "joe.benchmark.assets"; // classpath, pacote ou ambos
+    private static final String MANIFESTO = "manifesto.txt";
+    private static final int REPETICOES = 20;
+
+    public static void main(String[] args) throws IOException {
+        String leitor = System.getProperty(PROPRIEDADE_LEITOR, "ambos").toLowerCase(Locale.ROOT);
+        List<String> arquivos = lerManifesto();
+        System.out.printf("[BENCHMARK] %d arquivos do manifesto%n", arquivos.size());
+
+        if (!"pacote".equals(leitor)) {
+            medir("classpath", () -> lerClasspath(arquivos));
+        }
+        if (!"classpath".equals(leitor)) {
+            medir("pacote", () -> lerPacote(arquivos));
+            System.out.println("[BENCHMARK] Pacote: " + PacoteAssets.abrir().getOrigem());
+        }
+    }
+
+    /**
+     * Imprime a primeira passada (a frio) e a média das seguintes.
+     */
+    private static void medir(String nome, Leitura leitura) throws IOException {
+        long inicio = System.nanoTime();
+        long bytes = leitura.executar();
+        double frioMs = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        inicio = System.nanoTime();
+        for (int i = 0; i < REPETICOES; i++) {
+            leitura.executar();
+        }
+        double quenteMs = (System.nanoTime() - inicio) / 1_000_000.0 / REPETICOES;
+
+        System.out.printf("[BENCHMARK] %-9s | %,10d bytes | a frio: %8.2fms | em cache: %7.3fms%n",
+                nome, bytes, frioMs, quenteMs);
+    }
+
+    /**
+     * Lê cada arquivo do classpath para um vetor.
+     */
+    private static long lerClasspath(List<String> arquivos) throws IOException {
+        long total = 0;
+        for (String arquivo : arquivos) {
+            try (InputStream entrada = BenchmarkAssets.class.getClassLoader().getResourceAsStream(arquivo)) {
+                if (entrada == null)
+                    throw new IOException("Arquivo não encontrado no classpath: " + arquivo);
+                total += entrada.readAllBytes().length;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Abre um novo mapeamento do pacote e copia cada arquivo para um vetor.
+     */
+    private static long lerPacote(List<String> arquivos) throws IOException {
+        PacoteAssets pacote = PacoteAssets.abrir();
+        if (!pacote.isMapeado())
+            throw new IOException("Pacote de assets não encontrado (rode ./gradlew empacotarAssets)");
+
+        long total = 0;
+        for (String arquivo : arquivos) {
+            ByteBuffer conteudo = pacote.obter(arquivo);
+            if (conteudo == null)
+                throw new IOException("Arquivo fora do pacote: " + arquivo);
+            byte[] dados = new byte[conteudo.remaining()];
+            conteudo.get(dados);
+            total += dados.length;
+        }
+        return total;
+    }
+
+    private static List<String> lerManifesto() throws IOException {
+        InputStream entrada = BenchmarkAssets.class.getClassLoader().getResourceAsStream(MANIFESTO);
+        if (entrada == null)
+            throw new IOException("Manifesto não encontrado no classpath");
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            return leitor.lines()
+                    .map(String::strip)
+                    .filter(linha -> !linha.isEmpty() && !linha.startsWith("#"))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Leitura {
+        long executar() throws IOException;
+    }
+}
@@ -0,0 +1,135 @@
+package ifsc.joe.benchmark;
+
+import ifsc.joe.audio.AudioSilencioso;
+import ifsc.joe.config.Constantes;
+import ifsc.joe.domain.ArmazemEntidades;
+import ifsc.joe.domain.Personagem;
+import ifsc.joe.domain.ResolvedorCombate;
+import ifsc.joe.domain.impl.Aldeao;
+import ifsc.joe.domain.impl.Arqueiro;
+import ifsc.joe.domain.impl.Cavaleiro;
+import ifsc.joe.utils.GerenciadorAudio;
+import ifsc.joe.utils.GradeEspacial;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compara a primeira fase do combate em uma thread e no ForkJoinPool.
+ * <p>
+ * Para cada quantidade de personagens monta um mundo com semente fixa, em que
+ * todos atacam, e mede o melhor tempo de cada modo. Os acumuladores dos dois
+ * modos precisam ser idênticos; qualquer diferença interrompe o benchmark.
+ * As quantidades por tipo podem ser informadas com
+ * {@code -Djoe.benchmark.personagens=500,2000,8000}.
+ * <pre>
+ * ./gradlew benchmarkCombate
+ * </pre>
+ */
+public class BenchmarkCombate {
+
+    private static final String PROPRIEDADE_PERSONAGENS = "joe.benchmark.personagens";
+    private static final String PERSONAGENS_PADRAO = "500,2000,8000";
+    private static final int REPETICOES = 10;
+    private static final int AQUECIMENTO = 5;
+    private static final long SEMENTE = 42L;
+    // Folga na borda direita e inferior para o sprite não sair do mundo
+    private static final int MARGEM_SPRITE = 50;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        GerenciadorAudio.getInstancia().setDestino(new AudioSilencioso());
+
+        System.out.printf("[BENCHMARK] Paralelismo do ForkJoinPool: %d%n",
+                ForkJoinPool.commonPool().getParallelism());
+
+        int[] quantidades = Arrays.stream(System.getProperty(PROPRIEDADE_PERSONAGENS, PERSONAGENS_PADRAO).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        for (int quantidade : quantidades) {
+            medir(quantidade);
+        }
+    }
+
+    /**
+     * Monta o mundo, confere que os dois modos concordam e imprime os tempos.
+     */
+    private static void medir(int personagensPorTipo) {
+        ArmazemEntidades armazem = new ArmazemEntidades(personagensPorTipo * 3);
+        GradeEspacial<Personagem> grade = criarMundo(armazem, new Random(SEMENTE), personagensPorTipo);
+
+        int total = armazem.getQuantidade();
+        boolean[] atacantes = new boolean[total];
+        Arrays.fill(atacantes, true);
+
+        ResolvedorCombate serial = new ResolvedorCombate(armazem, grade, Constantes.Grade.TAMANHO_CELULA, false);
+        ResolvedorCombate paralelo = new ResolvedorCombate(armazem, grade, Constantes.Grade.TAMANHO_CELULA, true);
+
+        int[] danosSerial = new int[total];
+        int[] golpesSerial = new int[total];
+        int[] danosParalelo = new int[total];
+        int[] golpesParalelo = new int[total];
+
+        long nanosSerial = medirMelhor(serial, atacantes, danosSerial, golpesSerial);
+        long nanosParalelo = medirMelhor(paralelo, atacantes, danosParalelo, golpesParalelo);
+
+        if (!Arrays.equals(danosSerial, danosParalelo) || !Arrays.equals(golpesSerial, golpesParalelo))
+            throw new IllegalStateException("Resultados serial e paralelo diferentes com " + total + " personagens");
+
+        long golpes = Arrays.stream(golpesSerial).asLongStream().sum();
+        System.out.printf("[BENCHMARK] %,d personagens, %,d golpes: serial %.2fms, paralelo %.2fms (%.1fx)%n",
+                total, golpes, nanosSerial / 1_000_000.0, nanosParalelo / 1_000_000.0,
+                (double) nanosSerial / nanosParalelo);
+    }
+
+    private static long medirMelhor(ResolvedorCombate resolvedor, boolean[] atacantes, int[] danos, int[] golpes) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            resolvedor.acumularDanos(atacantes, danos, golpes);
+        }
+
+        long melhor = Long.MAX_VALUE;
+        for (int i = 0; i < REPETICOES; i++) {
+            long inicio = System.nanoTime();
+            resolvedor.acumularDanos(atacantes, danos, golpes);
+            melhor = Math.min(melhor, System.nanoTime() - inicio);
+        }
+        return melhor;
+    }
+
+    /**
+     * Cria os personagens em posições sorteadas no armazém e os indexa pelo
+     * centro em uma grade do tamanho do mundo, como o motor faz a cada passo.
+     *
+     * @param armazem            armazém que recebe os personagens
+     * @param rnd                gerador das posições
+     * @param personagensPorTipo quantidade de aldeões, arqueiros e cavaleiros
+     * @return grade com todos os personagens criados
+     */
+    public static GradeEspacial<Personagem> criarMundo(ArmazemEntidades armazem, Random rnd, int personagensPorTipo) {
+        GradeEspacial<Personagem> grade = new GradeEspacial<>(Constantes.Mundo.LARGURA, Constantes.Mundo.ALTURA,
+                Constantes.Grade.TAMANHO_CELULA);
+        for (int i = 0; i < personagensPorTipo; i++) {
+            indexar(grade, new Aldeao(armazem, x(rnd), y(rnd)));
+            indexar(grade, new Arqueiro(armazem, x(rnd), y(rnd)));
+            indexar(grade, new Cavaleiro(armazem, x(rnd), y(rnd)));
+        }
+        return grade;
+    }
+
+    private static void indexar(GradeEspacial<Personagem> grade, Personagem personagem) {
+        ArmazemEntidades armazem = personagem.getArmazem();
+        int i = personagem.getIndice();
+        grade.atualizar(personagem, armazem.getCentroX(i), armazem.getCentroY(i));
+    }
+
+    private static int x(Random rnd) {
+        return rnd.nextInt(Constantes.Mundo.LARGURA - MARGEM_SPRITE);
+    }
+
+    private static int y(Random rnd) {
+        return rnd.nextInt(Constantes.Mundo.ALTURA - MARGEM_SPRITE);
+    }
+}
@@ -0,0 +1,107 @@
+package ifsc.joe.benchmark;
+
+import ifsc.joe.domain.ModeloRecurso;
+import ifsc.joe.domain.Recurso;
+import ifsc.joe.enums.TipoRecurso;
+import ifsc.joe.utils.CacheSprites;
+import ifsc.joe.utils.GeradorRecursos;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mede o tempo e a memória alocada na geração de mapas com muitos recursos.
+ * <p>
+ * Primeiro mede a criação dos modelos compartilhados (única etapa que acessa o
+ * classpath) e depois gera mapas de tamanhos crescentes, após um aquecimento.
+ * As quantidades por tipo podem ser informadas com
+ * {@code -Djoe.benchmark.quantidades=1000,10000,50000}.
+ * <pre>
+ * ./gradlew benchmarkRecursos
+ * </pre>
+ */
+public class BenchmarkGeracaoRecursos {
+
+    private static final String PROPRIEDADE_QUANTIDADES = "joe.benchmark.quantidades";
+    private static final String QUANTIDADES_PADRAO = "1000,10000,50000";
+    private static final int REPETICOES = 5;
+    private static final int AQUECIMENTO = 3;
+    private static final long SEMENTE = 42L;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        // Inicialização: carrega (ou monta o fallback de) cada modelo uma única vez
+        long inicio = System.nanoTime();
+        for (TipoRecurso tipo : TipoRecurso.values()) {
+            ModeloRecurso.de(tipo);
+        }
+        double inicializacaoMs = (System.nanoTime() - inicio) / 1_000_000.0;
+        System.out.printf("[BENCHMARK] Modelos de recurso criados em %.2fms%n", inicializacaoMs);
+
+        int[] quantidades = Arrays.stream(System.getProperty(PROPRIEDADE_QUANTIDADES, QUANTIDADES_PADRAO).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        // Aquecimento do JIT com o menor tamanho
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            GeradorRecursos.gerar(quantidades[0], new Random(SEMENTE));
+        }
+
+        for (int quantidade : quantidades) {
+            medir(quantidade);
+        }
+
+        System.out.println("[BENCHMARK] " + CacheSprites.getInstancia().gerarRelatorio());
+    }
+
+    /**
+     * Gera o mapa algumas vezes e imprime o melhor tempo e a alocação média.
+     */
+    private static void medir(int quantidadePorTipo) {
+        int total = quantidadePorTipo * TipoRecurso.values().length;
+        long melhorNanos = Long.MAX_VALUE;
+        long bytesAlocados = 0;
+        boolean medeAlocacao = bytesAlocadosThread() >= 0;
+
+        for (int i = 0; i < REPETICOES; i++) {
+            long bytesAntes = bytesAlocadosThread();
+            long inicio = System.nanoTime();
+            List<Recurso> recursos = GeradorRecursos.gerar(quantidadePorTipo, new Random(SEMENTE));
+            long duracao = System.nanoTime() - inicio;
+            bytesAlocados += bytesAlocadosThread() - bytesAntes;
+            melhorNanos = Math.min(melhorNanos, duracao);
+
+            if (recursos.size() != total)
+                throw new IllegalStateException("Quantidade gerada inesperada: " + recursos.size());
+        }
+
+        long bytesPorExecucao = medeAlocacao ? bytesAlocados / REPETICOES : -1;
+        System.out.printf("[BENCHMARK] %,d recursos: %.2fms (%.1f ns/recurso), %s alocados (%s/recurso)%n",
+                total, melhorNanos / 1_000_000.0, (double) melhorNanos / total,
+                formatarBytes(bytesPorExecucao), bytesPorExecucao < 0 ? "?" : (bytesPorExecucao / total) + " B");
+    }
+
+    /**
+     * Retorna os bytes alocados pela thread atual, ou -1 se a JVM não informar.
+     */
+    private static long bytesAlocadosThread() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private static String formatarBytes(long bytes) {
+        if (bytes < 0)
+            return "?";
+        if (bytes < 1024 * 1024)
+            return String.format("%.1f KB", bytes / 1024.0);
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
@@ -15,6 +15,132 @@ public final class Constantes {
     public static final class Geral {
         private Geral() {
         }
+
+        // Loop de renderização ativa (habilitado com -Djoe.renderizacaoAtiva=true)
+        public static final String PROPRIEDADE_RENDERIZACAO_ATIVA = "joe.renderizacaoAtiva";
+        public static final String PROPRIEDADE_VSYNC = "joe.vsync"; // Limita à taxa do monitor
+        public static final int TICKS_POR_SEGUNDO = 20; // Passo fixo da simulação (50ms)
+        public static final int MAX_TICKS_POR_QUADRO = 5; // Evita espiral quando um quadro atrasa
+        public static final int TAXA_ATUALIZACAO_PADRAO = 60; // Usada se o monitor não informar
+        public static final int JANELA_ESTATISTICAS = 120; // Quadros considerados nas estatísticas
+        // Quadros por segundo no modo por repaint; o desenho interpola os movimentos entre os passos
+        public static final int QUADROS_POR_SEGUNDO = 60;
+    }
+
+    public static final class Inicializacao {
+        private Inicializacao() {
+        }
+
+        // Lista de sprites e sons decodificados em paralelo antes do primeiro quadro
+        public static final String ARQUIVO_MANIFESTO = "manifesto.txt";
+        // Deixa um processador para a EDT montar a janela enquanto isso
+        public static final int THREADS_CARREGAMENTO = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        // Pacote com todos os recursos, gerado pelo Gradle (empacotarAssets) e lido por mapeamento de memória
+        public static final String ARQUIVO_PACOTE = "assets.pak";
+        public static final String PROPRIEDADE_PACOTE = "joe.assets.pacote"; // Caminho de um pacote fora do classpath
+    }
+
+    public static final class Movimento {
+        private Movimento() {
+        }
+
+        // Pixels por segundo para cada ponto de velocidade no movimento contínuo (teclas seguradas)
+        public static final int PIXELS_POR_SEGUNDO_POR_VELOCIDADE = 12;
+        // Fator da velocidade em cada eixo no movimento diagonal (1 / raiz de 2)
+        public static final double FATOR_DIAGONAL = 0.7071;
+    }
+
+    public static final class Simulacao {
+        private Simulacao() {
+        }
+
+        // Propriedades lidas pelo ExecutorSimulacao, todas com este prefixo
+        public static final String PREFIXO_PROPRIEDADES = "joe.simulacao.";
+        public static final int PASSOS_PADRAO = 2000;
+        public static final int PASSOS_POR_SEGUNDO_PADRAO = 0; // 0 = o mais rápido possível
+        public static final int PERSONAGENS_POR_TIPO_PADRAO = 200;
+        public static final long SEMENTE_PADRAO = 42L;
+    }
+
+    public static final class Eventos {
+        private Eventos() {
+        }
+
+        // Posições do anel do barramento (potência de 2); o produtor só espera com o anel cheio
+        public static final int CAPACIDADE = 1 << 16;
+    }
+
+    public static final class Registro {
+        private Registro() {
+        }
+
+        public static final String PROPRIEDADE_NIVEL = "joe.log.nivel"; // DETALHE, INFO ou DESLIGADO
+        public static final String PROPRIEDADE_DESTINO = "joe.log.destino"; // console ou arquivo
+        public static final String PROPRIEDADE_ARQUIVO = "joe.log.arquivo";
+        public static final String DESTINO_ARQUIVO = "arquivo";
+        public static final String ARQUIVO_PADRAO = "combate.log";
+        // Rotação: combate.log, combate.log.1 ... combate.log.N
+        public static final long TAMANHO_MAXIMO_ARQUIVO = 4L * 1024 * 1024;
+        public static final int ARQUIVOS_ANTIGOS = 3;
+        // Registros pendentes para a thread de escrita; além disso são descartados
+        public static final int CAPACIDADE_FILA = 1 << 14;
+        public static final int TAMANHO_LOTE = 512;
+        // Pausa entre verificações de quem espera os registros serem escritos
+        public static final long ESPERA_DESCARGA_NANOS = 1_000_000L;
+    }
+
+    public static final class Offscreen {
+        private Offscreen() {
+        }
+
+        // Renderização fora da tela (RenderizadorOffscreen), configurável com -Djoe.offscreen.*
+        public static final String PREFIXO_PROPRIEDADES = "joe.offscreen.";
+        public static final int LARGURA_PADRAO = 800;
+        public static final int ALTURA_PADRAO = 600;
+        public static final int QUADROS_PADRAO = 120;
+        public static final int PERSONAGENS_POR_TIPO_PADRAO = 200;
+        public static final int INTERVALO_GRAVACAO_PADRAO = 30; // Grava um a cada N quadros (0 = nenhum)
+        public static final long SEMENTE_PADRAO = 42L; // Mesma semente, mesmo estado do mundo
+        public static final String DIRETORIO_SAIDA_PADRAO = "build/offscreen";
+    }
+
+    public static final class Mundo {
+        private Mundo() {
+        }
+
+        // O mundo é maior que o painel e percorrido pela câmera
+        public static final int LARGURA = 2400;
+        public static final int ALTURA = 1800;
+        public static final Color COR_FORA_MUNDO = new Color(60, 60, 60); // Área além das bordas
+    }
+
+    public static final class Camera {
+        private Camera() {
+        }
+
+        public static final double ZOOM_MINIMO = 0.25;
+        public static final double ZOOM_MAXIMO = 2.0;
+        public static final double FATOR_ZOOM = 1.1; // Por passo da roda do mouse
+    }
+
+    public static final class Detalhe {
+        private Detalhe() {
+        }
+
+        // Quantidade de personagens a partir da qual cada nível é ativado
+        public static final int LIMITE_REDUZIDO = 500;
+        public static final int LIMITE_PONTOS = 3000;
+        public static final int LIMITE_MAPA_CALOR = 15000;
+
+        // Zoom abaixo do qual cada nível é ativado
+        public static final double ZOOM_REDUZIDO = 0.75;
+        public static final double ZOOM_PONTOS = 0.4;
+        public static final double ZOOM_MAPA_CALOR = 0.3;
+
+        public static final float ALFA_COBERTURA_AURAS = 0.2f; // Camada de auras unidas
+        public static final int TAMANHO_PONTO = 4; // Pixels da tela
+        public static final int CELULA_MAPA_CALOR = 16; // Pixels da tela
+        public static final int SATURACAO_MAPA_CALOR = 12; // Personagens por célula para cor máxima
     }
 
     public static final class Aldeao {
@@ -51,12 +177,53 @@ public final class Constantes {
         public static final Color COR_AURA = new Color(65, 105, 225, 50); // Azul real semi-transparente
     }
 
+    public static final class Grade {
+        private Grade() {
+        }
+
+        // Célula da grade espacial de personagens: o maior alcance de ataque, para que
+        // um ataque só precise consultar a célula do atacante e as vizinhas
+        public static final int TAMANHO_CELULA = Math.max(Aldeao.ALCANCE,
+                Math.max(Arqueiro.ALCANCE, Cavaleiro.ALCANCE));
+    }
+
+    public static final class Combate {
+        private Combate() {
+        }
+
+        // -Djoe.combateSerial=true resolve o combate em uma única thread
+        public static final String PROPRIEDADE_COMBATE_SERIAL = "joe.combateSerial";
+        // Faixa de células da grade processada por tarefa do fork/join
+        public static final int CELULAS_POR_TAREFA = 8;
+    }
+
+    public static final class Audio {
+        private Audio() {
+        }
+
+        public static final String PROPRIEDADE_DESTINO = "joe.audio"; // mixer, silencioso ou gravacao
+        public static final String DESTINO_MIXER = "mixer";
+        public static final String DESTINO_SILENCIOSO = "silencioso";
+        public static final String DESTINO_GRAVACAO = "gravacao";
+
+        // Formato do mixer: todos os sons são convertidos para ele ao carregar
+        public static final float TAXA_AMOSTRAGEM = 44_100f;
+        public static final int CANAIS = 2;
+        public static final int MAX_VOZES = 16; // Sons tocando ao mesmo tempo
+        public static final int QUADROS_POR_BLOCO = 512; // ~12ms misturados por vez
+        public static final int BLOCOS_NA_LINHA = 3; // Buffer da saída, limita a latência (~35ms)
+        // Pedidos do mesmo som nesta janela desde o início da voz são somados a ela
+        public static final int JANELA_AGRUPAMENTO_MS = 80;
+        // Volume (em 1/256) de um som isolado; n sons agrupados somam raiz de n, até o máximo
+        public static final int GANHO_BASE = 160;
+        public static final int GANHO_MAXIMO = 256;
+    }
+
     public static final class Interface {
         private Interface() {
         }
 
-        public static final float REDUCAO_OPACIDADE = 0.1f;
-        public static final int INTERVALO_FADE = 50; // milissegundos
+        public static final float REDUCAO_OPACIDADE = 0.1f; // por passo da simulação
 
         // Tooltip
         public static final int TOOLTIP_DISTANCIA_DETECCAO = 30;
@@ -68,6 +235,19 @@ public final class Constantes {
         public static final Color TOOLTIP_COR_FUNDO = new Color(0, 0, 0, 200);
         public static final Color TOOLTIP_COR_BORDA = Color.WHITE;
 
+        // Aura de alcance
+        public static final int AURA_ALFA_BORDA = 150;
+        public static final float AURA_ESPESSURA_BORDA = 2f;
+
+        // Barra de vida
+        public static final int BARRA_VIDA_LARGURA = 40;
+        public static final int BARRA_VIDA_ALTURA = 5;
+        public static final int BARRA_VIDA_DISTANCIA = 5; // Distância entre o personagem e a barra
+        public static final int BARRA_VIDA_NIVEIS = 20; // Quantidade de níveis pré-renderizados
+
+        // Regiões sujas: acima deste limite a tela inteira é redesenhada
+        public static final int LIMITE_REGIOES_SUJAS = 32;
+
         // Geral
         public static final int PADDING_BORDAS = 50; // Padding para gerar posições aleatórias
     }
@@ -77,6 +257,11 @@ public final class Constantes {
         }
 
         public static final int QUANTIDADE_PADRAO = 10;
+        public static final int QUANTIDADE_INICIAL_POR_TIPO = 45; // Espalhados pelo mundo
+        public static final String PROPRIEDADE_QUANTIDADE_INICIAL = "joe.recursosPorTipo";
+        public static final int DISTANCIA_COLETA = 50; // Entre os centros do aldeão e do recurso
+        // Célula da grade espacial de recursos: uma coleta consulta no máximo 2x2 células
+        public static final int TAMANHO_CELULA_GRADE = DISTANCIA_COLETA * 2;
         public static final Color COR_COMIDA = new Color(255, 69, 0); // Laranja avermelhado
         public static final Color COR_OURO = new Color(255, 215, 0); // Dourado
         public static final Color COR_MADEIRA = new Color(139, 69, 19); // Marrom madeira
@@ -0,0 +1,517 @@
+package ifsc.joe.domain;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.Direcao;
+import ifsc.joe.enums.TipoPersonagem;
+import ifsc.joe.utils.CacheCamadas;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Armazena o estado dos personagens em vetores de tipos primitivos
+ * (estrutura de vetores), um índice por personagem.
+ * Movimento, ataque, coleta e fade-out percorrem esses vetores em laços
+ * simples, sem saltar entre objetos; atributos constantes vêm do
+ * {@link TipoPersonagem}.
+ * <p>
+ * Os índices são mantidos densos: ao remover um personagem, o último ocupa
+ * seu lugar. Cada {@link Personagem} é uma visão sobre um índice e é avisado
+ * quando seu índice muda; ao ser removido, a visão guarda uma cópia do seu
+ * próprio estado final e deixa de apontar para o armazém.
+ * <p>
+ * Os índices também são agrupados por tipo, em listas compactas atualizadas
+ * na inclusão e na remoção: comandos filtrados por tipo percorrem apenas os
+ * personagens do tipo e a contagem por tipo é imediata.
+ */
+public class ArmazemEntidades {
+
+    private static final int CAPACIDADE_INICIAL = 64;
+
+    // Bits do vetor de estados
+    private static final byte ATACANDO = 1;
+    private static final byte MONTADO = 1 << 1;
+    private static final byte MORRENDO = 1 << 2;
+
+    private static final TipoPersonagem[] TIPOS = TipoPersonagem.values();
+
+    private int quantidade;
+    private byte[] tipos;
+    private int[] posX;
+    private int[] posY;
+    // Posição no início do passo atual, usada para interpolar o desenho entre passos
+    private int[] posXAnterior;
+    private int[] posYAnterior;
+    private boolean movidoNoPasso;
+    // Maior deslocamento (em um eixo) desde o início do passo, entre todos os personagens
+    private int deslocamentoMaximoNoPasso;
+    private int[] vida;
+    private byte[] estados;
+    private float[] opacidades;
+    // Tamanho do sprite atual, usado para calcular o centro
+    private short[] larguras;
+    private short[] alturas;
+    // Maiores sprites já registrados, para a margem de desenho em torno do centro
+    private int maiorLargura;
+    private int maiorAltura;
+    private Personagem[] visoes;
+    // Posição de cada personagem na lista do seu tipo
+    private int[] posicoesNoTipo;
+    private final Map<TipoPersonagem, IndicesTipo> indicesPorTipo;
+
+    public ArmazemEntidades() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * @param capacidade quantidade de personagens antes do primeiro crescimento
+     */
+    public ArmazemEntidades(int capacidade) {
+        int inicial = Math.max(1, capacidade);
+        this.tipos = new byte[inicial];
+        this.posX = new int[inicial];
+        this.posY = new int[inicial];
+        this.posXAnterior = new int[inicial];
+        this.posYAnterior = new int[inicial];
+        this.vida = new int[inicial];
+        this.estados = new byte[inicial];
+        this.opacidades = new float[inicial];
+        this.larguras = new short[inicial];
+        this.alturas = new short[inicial];
+        this.visoes = new Personagem[inicial];
+        this.posicoesNoTipo = new int[inicial];
+        this.indicesPorTipo = new EnumMap<>(TipoPersonagem.class);
+        for (TipoPersonagem tipo : TIPOS) {
+            indicesPorTipo.put(tipo, new IndicesTipo());
+        }
+    }
+
+    /**
+     * Adiciona um personagem com vida cheia e opacidade total.
+     * Chamado pelo construtor de {@link Personagem}.
+     *
+     * @return índice ocupado
+     */
+    int adicionar(Personagem visao, TipoPersonagem tipo, int x, int y) {
+        if (quantidade == tipos.length) {
+            crescer();
+        }
+
+        int i = quantidade++;
+        tipos[i] = (byte) tipo.ordinal();
+        posX[i] = x;
+        posY[i] = y;
+        posXAnterior[i] = x;
+        posYAnterior[i] = y;
+        vida[i] = tipo.getVidaInicial();
+        estados[i] = 0;
+        opacidades[i] = 1.0f;
+        larguras[i] = 0;
+        alturas[i] = 0;
+        visoes[i] = visao;
+        posicoesNoTipo[i] = indicesPorTipo.get(tipo).adicionar(i);
+        visao.vincular(this, i);
+        return i;
+    }
+
+    /**
+     * Remove o personagem do índice informado, movendo o último para o seu lugar.
+     * A visão removida copia o próprio estado final para seus campos: continua
+     * respondendo às consultas, mas seus comandos deixam de ter efeito.
+     *
+     * @param i índice do personagem
+     */
+    public void remover(int i) {
+        visoes[i].desvincular();
+
+        // Tira o índice da lista do tipo; o último da lista ocupa sua posição
+        IndicesTipo doTipo = indicesPorTipo.get(getTipo(i));
+        int movido = doTipo.remover(posicoesNoTipo[i]);
+        if (movido >= 0) {
+            posicoesNoTipo[movido] = posicoesNoTipo[i];
+        }
+
+        int ultimo = --quantidade;
+        if (i != ultimo) {
+            copiar(ultimo, i);
+            posicoesNoTipo[i] = posicoesNoTipo[ultimo];
+            indicesPorTipo.get(getTipo(i)).substituir(posicoesNoTipo[i], i);
+            visoes[i] = visoes[ultimo];
+            visoes[i].vincular(this, i);
+        }
+        visoes[ultimo] = null;
+    }
+
+    private void copiar(int de, int para) {
+        tipos[para] = tipos[de];
+        posX[para] = posX[de];
+        posY[para] = posY[de];
+        posXAnterior[para] = posXAnterior[de];
+        posYAnterior[para] = posYAnterior[de];
+        vida[para] = vida[de];
+        estados[para] = estados[de];
+        opacidades[para] = opacidades[de];
+        larguras[para] = larguras[de];
+        alturas[para] = alturas[de];
+    }
+
+    private void crescer() {
+        int capacidade = tipos.length * 2;
+        tipos = Arrays.copyOf(tipos, capacidade);
+        posX = Arrays.copyOf(posX, capacidade);
+        posY = Arrays.copyOf(posY, capacidade);
+        posXAnterior = Arrays.copyOf(posXAnterior, capacidade);
+        posYAnterior = Arrays.copyOf(posYAnterior, capacidade);
+        vida = Arrays.copyOf(vida, capacidade);
+        estados = Arrays.copyOf(estados, capacidade);
+        opacidades = Arrays.copyOf(opacidades, capacidade);
+        larguras = Arrays.copyOf(larguras, capacidade);
+        alturas = Arrays.copyOf(alturas, capacidade);
+        visoes = Arrays.copyOf(visoes, capacidade);
+        posicoesNoTipo = Arrays.copyOf(posicoesNoTipo, capacidade);
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Retorna a quantidade de personagens do tipo, sem percorrer o armazém.
+     */
+    public int getQuantidade(TipoPersonagem tipo) {
+        return indicesPorTipo.get(tipo).quantidade;
+    }
+
+    /**
+     * Retorna o índice do personagem em uma posição da lista do tipo.
+     * A ordem da lista muda quando personagens são removidos.
+     *
+     * @param tipo    tipo dos personagens
+     * @param posicao posição na lista, de 0 a {@link #getQuantidade(TipoPersonagem)} - 1
+     * @return índice no armazém
+     */
+    public int getIndice(TipoPersonagem tipo, int posicao) {
+        return indicesPorTipo.get(tipo).indices[posicao];
+    }
+
+    public Personagem getPersonagem(int i) {
+        return visoes[i];
+    }
+
+    public TipoPersonagem getTipo(int i) {
+        return TIPOS[tipos[i]];
+    }
+
+    public int getPosX(int i) {
+        return posX[i];
+    }
+
+    public int getPosY(int i) {
+        return posY[i];
+    }
+
+    public int getCentroX(int i) {
+        return posX[i] + larguras[i] / 2;
+    }
+
+    public int getCentroY(int i) {
+        return posY[i] + alturas[i] / 2;
+    }
+
+    int getLargura(int i) {
+        return larguras[i];
+    }
+
+    int getAltura(int i) {
+        return alturas[i];
+    }
+
+    /**
+     * Registra o tamanho do sprite atual do personagem.
+     */
+    void setDimensoesSprite(int i, int largura, int altura) {
+        larguras[i] = (short) largura;
+        alturas[i] = (short) altura;
+        maiorLargura = Math.max(maiorLargura, largura);
+        maiorAltura = Math.max(maiorAltura, altura);
+    }
+
+    /**
+     * Retorna a maior distância, em cada eixo, entre o centro de um personagem
+     * e o que ele desenha (sprite, barra de vida e aura), sem contar a
+     * interpolação. Permite buscar na grade espacial, pelo centro, quem pode
+     * aparecer em uma região.
+     */
+    public int getMargemDesenho() {
+        int margem = Math.max(maiorLargura / 2, Constantes.Interface.BARRA_VIDA_LARGURA / 2) + 1;
+        margem = Math.max(margem, maiorAltura / 2 + Constantes.Interface.BARRA_VIDA_DISTANCIA
+                + Constantes.Interface.BARRA_VIDA_ALTURA + 1);
+        int margemAura = CacheCamadas.getInstancia().getMargemAura() + 1;
+        for (TipoPersonagem tipo : TIPOS) {
+            if (possuiAura(tipo)) {
+                margem = Math.max(margem, tipo.getAlcance() + margemAura);
+            }
+        }
+        return margem;
+    }
+
+    public int getVida(int i) {
+        return vida[i];
+    }
+
+    public float getOpacidade(int i) {
+        return opacidades[i];
+    }
+
+    public int getVelocidade(int i) {
+        return getTipo(i).getVelocidade(isMontado(i));
+    }
+
+    public boolean isAtacando(int i) {
+        return (estados[i] & ATACANDO) != 0;
+    }
+
+    public boolean isMontado(int i) {
+        return (estados[i] & MONTADO) != 0;
+    }
+
+    public boolean isMorrendo(int i) {
+        return (estados[i] & MORRENDO) != 0;
+    }
+
+    /**
+     * Alterna o estado de ataque.
+     *
+     * @return true se o personagem passou a atacar
+     */
+    public boolean alternarAtacando(int i) {
+        estados[i] ^= ATACANDO;
+        return isAtacando(i);
+    }
+
+    public void setMontado(int i, boolean montado) {
+        estados[i] = (byte) (montado ? estados[i] | MONTADO : estados[i] & ~MONTADO);
+    }
+
+    /**
+     * Verifica se o personagem exibe aura de alcance (pode atacar ou coletar).
+     */
+    public boolean possuiAura(int i) {
+        return possuiAura(getTipo(i));
+    }
+
+    static boolean possuiAura(TipoPersonagem tipo) {
+        return tipo.getAtaque() > 0 || tipo.isColetador();
+    }
+
+    /**
+     * Move o personagem conforme sua velocidade, sem sair dos limites.
+     *
+     * @param i          índice do personagem
+     * @param direcao    direção do movimento
+     * @param maxLargura largura máxima da área de movimento
+     * @param maxAltura  altura máxima da área de movimento
+     */
+    public void mover(int i, Direcao direcao, int maxLargura, int maxAltura) {
+        int velocidade = getVelocidade(i);
+
+        switch (direcao) {
+            case CIMA -> deslocar(i, 0, -velocidade, maxLargura, maxAltura);
+            case BAIXO -> deslocar(i, 0, velocidade, maxLargura, maxAltura);
+            case ESQUERDA -> deslocar(i, -velocidade, 0, maxLargura, maxAltura);
+            case DIREITA -> deslocar(i, velocidade, 0, maxLargura, maxAltura);
+        }
+    }
+
+    /**
+     * Desloca o personagem, mantendo o sprite dentro dos limites do mundo.
+     *
+     * @param dx deslocamento horizontal, em pixels
+     * @param dy deslocamento vertical, em pixels
+     */
+    public void deslocar(int i, int dx, int dy, int maxLargura, int maxAltura) {
+        // Não permite que a imagem seja desenhada fora dos limites
+        posX[i] = Math.min(Math.max(0, posX[i] + dx), maxLargura - larguras[i]);
+        posY[i] = Math.min(Math.max(0, posY[i] + dy), maxAltura - alturas[i]);
+        movidoNoPasso |= posX[i] != posXAnterior[i] || posY[i] != posYAnterior[i];
+        deslocamentoMaximoNoPasso = Math.max(deslocamentoMaximoNoPasso,
+                Math.max(Math.abs(posX[i] - posXAnterior[i]), Math.abs(posY[i] - posYAnterior[i])));
+    }
+
+    /**
+     * Marca o início de um passo: a posição atual de todos passa a ser a
+     * anterior, de onde o desenho interpola até a próxima.
+     */
+    public void fixarPosicoesAnteriores() {
+        if (!movidoNoPasso)
+            return;
+
+        System.arraycopy(posX, 0, posXAnterior, 0, quantidade);
+        System.arraycopy(posY, 0, posYAnterior, 0, quantidade);
+        movidoNoPasso = false;
+        deslocamentoMaximoNoPasso = 0;
+    }
+
+    /**
+     * Verifica se algum personagem se moveu desde o início do passo.
+     */
+    public boolean isMovidoNoPasso() {
+        return movidoNoPasso;
+    }
+
+    /**
+     * Retorna o maior deslocamento de um personagem, em um eixo, desde o início
+     * do passo: o quanto o desenho interpolado pode se afastar da posição atual.
+     */
+    public int getDeslocamentoMaximoNoPasso() {
+        return deslocamentoMaximoNoPasso;
+    }
+
+    /**
+     * Verifica se o personagem se moveu desde o início do passo.
+     */
+    public boolean isMovido(int i) {
+        return posX[i] != posXAnterior[i] || posY[i] != posYAnterior[i];
+    }
+
+    /**
+     * Retorna quanto falta para o desenho interpolado chegar à posição atual.
+     *
+     * @param alfa fração do passo já decorrida, de 0 (posição anterior) a 1 (atual)
+     */
+    public int getAtrasoInterpoladoX(int i, float alfa) {
+        return Math.round((posXAnterior[i] - posX[i]) * (1 - alfa));
+    }
+
+    /**
+     * @see #getAtrasoInterpoladoX(int, float)
+     */
+    public int getAtrasoInterpoladoY(int i, float alfa) {
+        return Math.round((posYAnterior[i] - posY[i]) * (1 - alfa));
+    }
+
+    /**
+     * Reduz a vida do personagem, sem ficar negativa.
+     *
+     * @return true se o dano matou o personagem
+     */
+    public boolean sofrerDano(int i, int dano) {
+        vida[i] = Math.max(0, vida[i] - dano);
+        if (vida[i] <= 0) {
+            estados[i] |= MORRENDO;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reduz a opacidade para o efeito de fade-out.
+     *
+     * @return true se ainda tem opacidade
+     */
+    public boolean reduzirOpacidade(int i, float reducao) {
+        opacidades[i] = Math.max(0, opacidades[i] - reducao);
+        return opacidades[i] > 0;
+    }
+
+    /**
+     * Verifica se o personagem completou o efeito de desaparecimento.
+     */
+    public boolean desapareceu(int i) {
+        return isMorrendo(i) && opacidades[i] <= 0;
+    }
+
+    /**
+     * Calcula o quadrado da distância entre os centros de dois personagens.
+     */
+    public long calcularDistanciaAoQuadrado(int i, int j) {
+        long dx = getCentroX(i) - getCentroX(j);
+        long dy = getCentroY(i) - getCentroY(j);
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Retorna os limites de desenho nas posições anterior e atual juntas,
+     * ou seja, tudo o que o desenho interpolado pode cobrir durante o passo.
+     */
+    public Rectangle getLimitesMovimento(int i) {
+        Rectangle limites = getLimites(i);
+        if (isMovido(i)) {
+            Rectangle anterior = new Rectangle(limites);
+            anterior.translate(posXAnterior[i] - posX[i], posYAnterior[i] - posY[i]);
+            limites.add(anterior);
+        }
+        return limites;
+    }
+
+    /**
+     * Retorna o retângulo que engloba tudo o que o personagem desenha:
+     * sprite, barra de vida e aura de alcance (quando exibida).
+     *
+     * @param i índice do personagem
+     * @return limites de desenho em coordenadas do mundo
+     */
+    public Rectangle getLimites(int i) {
+        return calcularLimites(getTipo(i), posX[i], posY[i], larguras[i], alturas[i]);
+    }
+
+    /**
+     * Calcula os limites de desenho de um personagem do tipo com o sprite na
+     * posição e tamanho informados. Também usado pelas visões removidas.
+     */
+    static Rectangle calcularLimites(TipoPersonagem tipo, int x, int y, int largura, int altura) {
+        int centroX = x + largura / 2;
+        Rectangle limites = new Rectangle(x, y, largura, altura);
+
+        // Barra de vida (inclui a borda de 1px)
+        limites.add(new Rectangle(centroX - (Constantes.Interface.BARRA_VIDA_LARGURA / 2),
+                y - Constantes.Interface.BARRA_VIDA_DISTANCIA - Constantes.Interface.BARRA_VIDA_ALTURA,
+                Constantes.Interface.BARRA_VIDA_LARGURA + 1, Constantes.Interface.BARRA_VIDA_ALTURA + 1));
+
+        if (possuiAura(tipo)) {
+            int raio = tipo.getAlcance() + CacheCamadas.getInstancia().getMargemAura();
+            limites.add(new Rectangle(centroX - raio, y + altura / 2 - raio, raio * 2 + 1, raio * 2 + 1));
+        }
+        return limites;
+    }
+
+    /**
+     * Lista compacta dos índices de um tipo, com remoção por troca com o último.
+     */
+    private static final class IndicesTipo {
+
+        // Cresce sob demanda: o armazém próprio de um personagem avulso usa no máximo uma posição
+        private int[] indices = new int[0];
+        private int quantidade;
+
+        /**
+         * @return posição ocupada na lista
+         */
+        int adicionar(int indice) {
+            if (quantidade == indices.length) {
+                indices = Arrays.copyOf(indices, Math.max(4, quantidade * 2));
+            }
+            indices[quantidade] = indice;
+            return quantidade++;
+        }
+
+        /**
+         * Remove a posição informada, movendo o último da lista para ela.
+         *
+         * @return índice que mudou de posição, ou -1 se a posição era a última
+         */
+        int remover(int posicao) {
+            int ultima = --quantidade;
+            if (posicao == ultima)
+                return -1;
+            indices[posicao] = indices[ultima];
+            return indices[posicao];
+        }
+
+        void substituir(int posicao, int indice) {
+            indices[posicao] = indice;
+        }
+    }
+}
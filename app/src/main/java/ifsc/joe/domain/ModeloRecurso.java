@@ -0,0 +1,116 @@
+package ifsc.joe.domain;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.TipoRecurso;
+import ifsc.joe.utils.CacheSprites;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Dados compartilhados por todos os recursos de um mesmo tipo (flyweight):
+ * imagem, cor de fallback e quantidade padrão.
+ * Cada {@link Recurso} guarda apenas uma referência ao modelo e sua posição,
+ * então gerar milhares de recursos não repete buscas no classpath.
+ * <p>
+ * Na criação só o tamanho da imagem é lido (do cabeçalho do PNG); a imagem é
+ * decodificada no primeiro desenho, então o motor sem interface não carrega imagens.
+ */
+public final class ModeloRecurso {
+
+    private static final int TAMANHO_FALLBACK = 20; // Diâmetro do círculo desenhado sem imagem
+
+    private static final Map<TipoRecurso, ModeloRecurso> MODELOS = new EnumMap<>(TipoRecurso.class);
+
+    private final TipoRecurso tipo;
+    private final Color cor;
+    private final int quantidadePadrao;
+    private final String nomeImagem;
+    private final int largura;
+    private final int altura;
+    // Decodificada no primeiro desenho; dois desenhos simultâneos obtêm a mesma imagem do cache
+    private volatile BufferedImage imagem;
+
+    private ModeloRecurso(TipoRecurso tipo, String nomeImagem, Color cor, int quantidadePadrao) {
+        this.tipo = tipo;
+        this.cor = cor;
+        this.quantidadePadrao = quantidadePadrao;
+        this.nomeImagem = nomeImagem;
+
+        // Sem imagem no classpath, usa o tamanho do círculo de fallback
+        Dimension tamanho = CacheSprites.getInstancia().obterTamanho(nomeImagem);
+        this.largura = tamanho != null ? tamanho.width : TAMANHO_FALLBACK + 1;
+        this.altura = tamanho != null ? tamanho.height : TAMANHO_FALLBACK + 1;
+    }
+
+    /**
+     * Retorna o modelo compartilhado do tipo, criando-o na primeira chamada.
+     *
+     * @param tipo tipo do recurso
+     * @return modelo do tipo
+     */
+    public static synchronized ModeloRecurso de(TipoRecurso tipo) {
+        return MODELOS.computeIfAbsent(tipo, ModeloRecurso::criar);
+    }
+
+    private static ModeloRecurso criar(TipoRecurso tipo) {
+        return switch (tipo) {
+            case COMIDA -> new ModeloRecurso(tipo, "food", Constantes.Recursos.COR_COMIDA,
+                    Constantes.Recursos.QUANTIDADE_PADRAO);
+            case OURO -> new ModeloRecurso(tipo, "gold", Constantes.Recursos.COR_OURO,
+                    Constantes.Recursos.QUANTIDADE_PADRAO);
+            case MADEIRA -> new ModeloRecurso(tipo, "wood", Constantes.Recursos.COR_MADEIRA,
+                    Constantes.Recursos.QUANTIDADE_PADRAO);
+        };
+    }
+
+    /**
+     * Desenha o círculo de fallback (preenchimento na cor do tipo e borda preta).
+     */
+    private static BufferedImage criarImagemFallback(Color cor) {
+        BufferedImage imagem = CacheSprites.criarImagemCompativel(TAMANHO_FALLBACK + 1, TAMANHO_FALLBACK + 1);
+        Graphics2D g2d = imagem.createGraphics();
+        g2d.setColor(cor);
+        g2d.fillOval(0, 0, TAMANHO_FALLBACK, TAMANHO_FALLBACK);
+        g2d.setColor(Color.BLACK);
+        g2d.drawOval(0, 0, TAMANHO_FALLBACK, TAMANHO_FALLBACK);
+        g2d.dispose();
+        return imagem;
+    }
+
+    public TipoRecurso getTipo() {
+        return tipo;
+    }
+
+    public Color getCor() {
+        return cor;
+    }
+
+    public int getQuantidadePadrao() {
+        return quantidadePadrao;
+    }
+
+    /**
+     * Retorna a imagem do tipo, decodificando-a na primeira chamada.
+     * Sem imagem no classpath, o círculo na cor do tipo é desenhado uma única vez.
+     */
+    public BufferedImage getImagem() {
+        BufferedImage atual = imagem;
+        if (atual == null) {
+            BufferedImage sprite = CacheSprites.getInstancia().obter(nomeImagem);
+            atual = sprite != null ? sprite : criarImagemFallback(cor);
+            imagem = atual;
+        }
+        return atual;
+    }
+
+    public int getLargura() {
+        return largura;
+    }
+
+    public int getAltura() {
+        return altura;
+    }
+}
@@ -1,79 +1,145 @@
 package ifsc.joe.domain;
 
+import ifsc.joe.config.Constantes;
 import ifsc.joe.enums.Direcao;
+import ifsc.joe.enums.NivelDetalhe;
+import ifsc.joe.enums.TipoPersonagem;
 import ifsc.joe.interfaces.Combatente;
-import ifsc.joe.interfaces.Coletador;
 import ifsc.joe.interfaces.Destrutivel;
 import ifsc.joe.interfaces.Movel;
 import ifsc.joe.interfaces.Posicionavel;
-import ifsc.joe.utils.GerenciadorAudio;
+import ifsc.joe.utils.CacheCamadas;
+import ifsc.joe.utils.CacheSprites;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.util.Objects;
 
 /**
  * Classe abstrata que representa a base de todos os personagens do jogo.
  * Implementa o padrão de herança e polimorfismo, além das interfaces de
  * capacidade.
+ * <p>
+ * O estado do personagem (posição, vida, estados e opacidade) fica no
+ * {@link ArmazemEntidades}; esta classe é uma visão sobre um índice dele.
+ * Ao ser removido do armazém, o personagem guarda uma cópia do seu estado
+ * final: as consultas continuam respondendo por ele e os comandos (mover,
+ * atacar, sofrer dano...) deixam de ter efeito.
  */
 public abstract class Personagem implements Movel, Combatente, Destrutivel {
 
-    protected int posX;
-    protected int posY;
-    protected boolean atacando;
+    private static final Color COR_ALCANCE_PADRAO = new Color(100, 100, 100, 60); // Cinza semi-transparente
+
+    // Armazém e índice onde está o estado deste personagem (atualizados pelo armazém)
+    private ArmazemEntidades armazem;
+    private int indice;
+
+    // Estado final, copiado do armazém na remoção (a partir daí armazem é null)
+    private TipoPersonagem tipoFinal;
+    private int posXFinal;
+    private int posYFinal;
+    private int larguraFinal;
+    private int alturaFinal;
+    private int vidaFinal;
+    private float opacidadeFinal;
+    private boolean atacandoFinal;
+    private boolean montadoFinal;
+    private boolean morrendoFinal;
+
+    // Sprite atual; decodificado só quando o personagem é desenhado pela primeira vez
     protected Image icone;
-    protected int vida;
-    protected int ataque;
-    protected float opacidade;
-    protected boolean morrendo;
+    private String nomeIcone;
 
     /**
-     * Construtor base para todos os personagens
+     * Construtor base para todos os personagens.
+     * Registra o personagem no armazém com vida cheia.
      *
-     * @param x coordenada X inicial
-     * @param y coordenada Y inicial
+     * @param armazem armazém onde o estado do personagem será guardado
+     * @param tipo    tipo do personagem
+     * @param x       coordenada X inicial
+     * @param y       coordenada Y inicial
      */
-    public Personagem(int x, int y) {
-        this.posX = x;
-        this.posY = y;
-        this.atacando = false;
-        this.icone = carregarImagem(getNomeImagem());
-        this.vida = getVidaInicial();
-        this.ataque = getAtaqueBase();
-        this.opacidade = 1.0f;
-        this.morrendo = false;
+    protected Personagem(ArmazemEntidades armazem, TipoPersonagem tipo, int x, int y) {
+        armazem.adicionar(this, tipo, x, y);
+        atualizarIcone();
     }
 
     /**
-     * Retorna a vida inicial do personagem.
-     * Pode ser sobrescrito para personagens com mais ou menos vida.
+     * Aponta a visão para um índice do armazém.
+     * Chamado pelo armazém ao adicionar, reposicionar ou remover o personagem.
+     */
+    void vincular(ArmazemEntidades armazem, int indice) {
+        this.armazem = armazem;
+        this.indice = indice;
+    }
+
+    /**
+     * Copia o estado atual do armazém para esta visão e a desliga dele.
+     * Chamado pelo armazém ao remover o personagem.
+     */
+    void desvincular() {
+        tipoFinal = armazem.getTipo(indice);
+        posXFinal = armazem.getPosX(indice);
+        posYFinal = armazem.getPosY(indice);
+        larguraFinal = armazem.getLargura(indice);
+        alturaFinal = armazem.getAltura(indice);
+        vidaFinal = armazem.getVida(indice);
+        opacidadeFinal = armazem.getOpacidade(indice);
+        atacandoFinal = armazem.isAtacando(indice);
+        montadoFinal = armazem.isMontado(indice);
+        morrendoFinal = armazem.isMorrendo(indice);
+        armazem = null;
+        indice = -1;
+    }
+
+    /**
+     * Verifica se o personagem já foi removido do armazém.
+     */
+    public boolean isRemovido() {
+        return armazem == null;
+    }
+
+    /**
+     * Retorna o armazém que guarda o estado deste personagem,
+     * ou null se ele já foi removido.
+     */
+    public ArmazemEntidades getArmazem() {
+        return armazem;
+    }
+
+    /**
+     * Retorna o índice deste personagem no armazém, ou -1 se ele já foi removido.
+     * Muda quando outro personagem é removido do mesmo armazém.
+     */
+    public int getIndice() {
+        return indice;
+    }
+
+    /**
+     * Retorna o tipo do personagem.
      *
-     * @return vida inicial do personagem
+     * @return tipo do personagem
      */
-    public int getVidaInicial() {
-        return 100;
+    public TipoPersonagem getTipo() {
+        return armazem != null ? armazem.getTipo(indice) : tipoFinal;
     }
 
     /**
-     * Retorna o valor base de ataque do personagem.
-     * Pode ser sobrescrito para personagens com mais ou menos ataque.
+     * Retorna a vida inicial do personagem, definida pelo tipo.
      *
-     * @return valor de ataque base
+     * @return vida inicial do personagem
      */
-    public int getAtaqueBase() {
-        return 0;
+    public int getVidaInicial() {
+        return getTipo().getVidaInicial();
     }
 
     /**
-     * Retorna o alcance de ataque do personagem em pixels.
-     * Pode ser sobrescrito para personagens com maior ou menor alcance.
+     * Retorna o alcance de ataque do personagem em pixels, definido pelo tipo.
      *
      * @return alcance de ataque em pixels
      */
     public int getAlcanceAtaque() {
-        return 50; // Alcance padrão (Aldeão)
+        return getTipo().getAlcance();
     }
 
     /**
@@ -83,7 +149,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return cor da aura de alcance
      */
     public Color getCorAlcance() {
-        return new Color(100, 100, 100, 60); // Cinza semi-transparente padrão
+        return COR_ALCANCE_PADRAO;
     }
 
     /**
@@ -104,42 +170,66 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
         return getNomeImagem();
     }
 
-    /**
-     * Retorna o nome do arquivo de som de ataque.
-     * Pode ser sobrescrito pelas subclasses.
-     * 
-     * @return nome do arquivo de som
-     */
-    public String getSomAtaque() {
-        return "attack.wav";
-    }
-
     /**
      * Desenha o personagem no JPanel utilizando as coordenadas X e Y.
      * Aplica transparência quando o personagem está morrendo.
      * Desenha a aura de alcance sempre para personagens que podem atacar.
+     * Aura e barra de vida vêm pré-renderizadas do {@link CacheCamadas}.
      *
      * @param g      objeto Graphics do JPanel
      * @param painel JPanel onde o personagem será desenhado
      */
     public void desenhar(Graphics g, JPanel painel) {
-        String nomeImagem = atacando ? getNomeImagemAtacando() : getNomeImagem();
-        this.icone = carregarImagem(nomeImagem);
+        desenhar(g, painel, NivelDetalhe.COMPLETO);
+    }
 
-        // Aplica efeito de transparência
-        Graphics2D g2d = (Graphics2D) g.create();
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacidade));
+    /**
+     * Desenha o personagem conforme o nível de detalhe.
+     * No nível REDUZIDO a aura não é desenhada (a Tela desenha uma camada de
+     * cobertura unida) e a barra de vida só aparece para personagens feridos.
+     * Os níveis PONTOS e MAPA_CALOR são desenhados pela Tela.
+     *
+     * @param g      objeto Graphics do JPanel
+     * @param painel JPanel onde o personagem será desenhado
+     * @param nivel  nível de detalhe atual
+     */
+    public void desenhar(Graphics g, JPanel painel, NivelDetalhe nivel) {
+        // Aplica efeito de transparência apenas quando necessário
+        Graphics2D g2d = (Graphics2D) g;
+        float opacidade = getOpacidade();
+        Composite compositeOriginal = null;
+        if (opacidade < 1.0f) {
+            compositeOriginal = g2d.getComposite();
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacidade));
+        }
 
         // Desenha a aura de alcance sempre para personagens que podem atacar ou coletar
-        if (getAtaque() > 0 || this instanceof Coletador) {
+        if (nivel == NivelDetalhe.COMPLETO && possuiAura()) {
             desenharAuraAlcance(g2d);
         }
 
         // Desenha a Barra de Vida
-        desenharBarraVida(g2d);
+        if (nivel == NivelDetalhe.COMPLETO || getVida() < getVidaInicial()) {
+            desenharBarraVida(g2d);
+        }
+
+        if (icone == null) {
+            icone = carregarImagem(nomeIcone);
+        }
+        g2d.drawImage(this.icone, getPosX(), getPosY(), painel);
 
-        g2d.drawImage(this.icone, this.posX, this.posY, painel);
-        g2d.dispose();
+        if (compositeOriginal != null) {
+            g2d.setComposite(compositeOriginal);
+        }
+    }
+
+    /**
+     * Verifica se o personagem exibe aura de alcance (pode atacar ou coletar).
+     *
+     * @return true se a aura deve ser desenhada
+     */
+    public boolean possuiAura() {
+        return ArmazemEntidades.possuiAura(getTipo());
     }
 
     /**
@@ -148,29 +238,17 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @param g2d objeto Graphics2D para desenhar
      */
     private void desenharAuraAlcance(Graphics2D g2d) {
+        CacheCamadas camadas = CacheCamadas.getInstancia();
         int alcance = getAlcanceAtaque();
-        int centroX = getCentroX();
-        int centroY = getCentroY();
-
-        // Ativa anti-aliasing para desenho suave
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        // Desenha o círculo preenchido (área de alcance)
-        g2d.setColor(getCorAlcance());
-        g2d.fillOval(centroX - alcance, centroY - alcance, alcance * 2, alcance * 2);
+        int deslocamento = alcance + camadas.getMargemAura();
 
-        // Desenha a borda do círculo
-        g2d.setColor(getCorBordaAlcance());
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawOval(centroX - alcance, centroY - alcance, alcance * 2, alcance * 2);
+        g2d.drawImage(camadas.obterAura(alcance, getCorAlcance()),
+                getCentroX() - deslocamento, getCentroY() - deslocamento, null);
     }
 
     /**
      * Desenha a barra de vida acima do personagem.
-     * Cor muda conforme a porcentagem de vida:
-     * - Verde: > 75%
-     * - Amarelo: 25% - 75%
-     * - Vermelho: < 25%
+     * A cor (verde, amarelo ou vermelho) é definida pelo nível pré-renderizado.
      *
      * @param g2d contexto gráfico
      */
@@ -178,43 +256,23 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
         if (!estaVivo())
             return;
 
-        int larguraBarra = 40; // Largura total da barra
-        int alturaBarra = 5;
-        int gap = 5; // Distância entre o personagem e a barra
-
-        int xBarra = getCentroX() - (larguraBarra / 2);
-        int yBarra = this.posY - gap - alturaBarra;
-
-        // Calcular porcentagem de vida
-        float pVida = (float) this.vida / getVidaInicial();
-        int larguraAtual = (int) (larguraBarra * pVida);
+        int xBarra = getCentroX() - (Constantes.Interface.BARRA_VIDA_LARGURA / 2);
+        int yBarra = getPosY() - Constantes.Interface.BARRA_VIDA_DISTANCIA - Constantes.Interface.BARRA_VIDA_ALTURA;
 
-        // Definir cor
-        if (pVida > 0.75f) {
-            g2d.setColor(Color.GREEN);
-        } else if (pVida > 0.25f) {
-            g2d.setColor(Color.YELLOW);
-        } else {
-            g2d.setColor(Color.RED);
-        }
-
-        // Desenhar barra preenchida
-        g2d.fillRect(xBarra, yBarra, larguraAtual, alturaBarra);
-
-        // Desenhar borda
-        g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(1));
-        g2d.drawRect(xBarra, yBarra, larguraBarra, alturaBarra);
+        float pVida = (float) getVida() / getVidaInicial();
+        g2d.drawImage(CacheCamadas.getInstancia().obterBarraVida(pVida), xBarra, yBarra, null);
     }
 
     /**
-     * Retorna a cor da borda da aura de alcance.
+     * Retorna o retângulo que engloba tudo o que o personagem desenha na tela:
+     * sprite, barra de vida e aura de alcance (quando exibida).
+     * Usado para marcar apenas as regiões afetadas como sujas.
      *
-     * @return cor da borda
+     * @return limites de desenho do personagem
      */
-    protected Color getCorBordaAlcance() {
-        Color corBase = getCorAlcance();
-        return new Color(corBase.getRed(), corBase.getGreen(), corBase.getBlue(), 150);
+    public Rectangle getLimites() {
+        return armazem != null ? armazem.getLimites(indice)
+                : ArmazemEntidades.calcularLimites(tipoFinal, posXFinal, posYFinal, larguraFinal, alturaFinal);
     }
 
     /**
@@ -223,7 +281,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return coordenada X do centro
      */
     public int getCentroX() {
-        return posX + (icone != null ? icone.getWidth(null) / 2 : 0);
+        return armazem != null ? armazem.getCentroX(indice) : posXFinal + larguraFinal / 2;
     }
 
     /**
@@ -232,7 +290,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return coordenada Y do centro
      */
     public int getCentroY() {
-        return posY + (icone != null ? icone.getHeight(null) / 2 : 0);
+        return armazem != null ? armazem.getCentroY(indice) : posYFinal + alturaFinal / 2;
     }
 
     /**
@@ -247,6 +305,19 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
         return Math.sqrt(dx * dx + dy * dy);
     }
 
+    /**
+     * Calcula o quadrado da distância entre este personagem e outro.
+     * Evita a raiz quadrada em comparações de alcance.
+     *
+     * @param outro o outro personagem
+     * @return distância ao quadrado em pixels
+     */
+    public long calcularDistanciaAoQuadrado(Posicionavel outro) {
+        long dx = this.getCentroX() - outro.getCentroX();
+        long dy = this.getCentroY() - outro.getCentroY();
+        return dx * dx + dy * dy;
+    }
+
     /**
      * Verifica se outro personagem está dentro do alcance de ataque.
      *
@@ -254,7 +325,8 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return true se está no alcance, false caso contrário
      */
     public boolean estaNoAlcance(Posicionavel outro) {
-        return calcularDistancia(outro) <= getAlcanceAtaque();
+        long alcance = getAlcanceAtaque();
+        return calcularDistanciaAoQuadrado(outro) <= alcance * alcance;
     }
 
     /**
@@ -265,38 +337,29 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @param maxAltura  altura máxima da área de movimento
      */
     public void mover(Direcao direcao, int maxLargura, int maxAltura) {
-        int velocidade = getVelocidade();
-
-        switch (direcao) {
-            case CIMA -> this.posY -= velocidade;
-            case BAIXO -> this.posY += velocidade;
-            case ESQUERDA -> this.posX -= velocidade;
-            case DIREITA -> this.posX += velocidade;
+        if (armazem != null) {
+            armazem.mover(indice, direcao, maxLargura, maxAltura);
         }
-
-        // Não permite que a imagem seja desenhada fora dos limites
-        this.posX = Math.min(Math.max(0, this.posX), maxLargura - this.icone.getWidth(null));
-        this.posY = Math.min(Math.max(0, this.posY), maxAltura - this.icone.getHeight(null));
     }
 
     /**
-     * Retorna a velocidade de movimento do personagem.
-     * Pode ser sobrescrito para personagens mais rápidos ou lentos.
+     * Retorna a velocidade de movimento do personagem, definida pelo tipo
+     * e, para cavaleiros, pelo estado de montaria.
      *
      * @return velocidade em pixels por movimento
      */
     public int getVelocidade() {
-        return 10;
+        return armazem != null ? armazem.getVelocidade(indice) : tipoFinal.getVelocidade(montadoFinal);
     }
 
     /**
      * Alterna o estado de ataque do personagem
      */
     public void atacar() {
-        this.atacando = !this.atacando;
-        if (this.atacando) {
-            GerenciadorAudio.getInstancia().tocarSom(getSomAtaque());
-        }
+        if (armazem == null)
+            return;
+        armazem.alternarAtacando(indice);
+        atualizarIcone();
     }
 
     /**
@@ -305,7 +368,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return true se está atacando, false caso contrário
      */
     public boolean isAtacando() {
-        return atacando;
+        return armazem != null ? armazem.isAtacando(indice) : atacandoFinal;
     }
 
     /**
@@ -314,7 +377,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return posição X
      */
     public int getPosX() {
-        return posX;
+        return armazem != null ? armazem.getPosX(indice) : posXFinal;
     }
 
     /**
@@ -323,7 +386,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return posição Y
      */
     public int getPosY() {
-        return posY;
+        return armazem != null ? armazem.getPosY(indice) : posYFinal;
     }
 
     /**
@@ -332,16 +395,16 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return vida atual
      */
     public int getVida() {
-        return vida;
+        return armazem != null ? armazem.getVida(indice) : vidaFinal;
     }
 
     /**
-     * Retorna o valor de ataque do personagem
+     * Retorna o valor de ataque do personagem, definido pelo tipo
      *
      * @return valor de ataque
      */
     public int getAtaque() {
-        return ataque;
+        return getTipo().getAtaque();
     }
 
     /**
@@ -350,7 +413,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return true se vida > 0, false caso contrário
      */
     public boolean estaVivo() {
-        return vida > 0;
+        return getVida() > 0;
     }
 
     /**
@@ -361,12 +424,8 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @param dano quantidade de dano a ser aplicado
      */
     public void sofrerDano(int dano) {
-        this.vida = Math.max(0, this.vida - dano);
-        if (this.vida <= 0) {
-            this.morrendo = true;
-            GerenciadorAudio.getInstancia().tocarSom("death.wav");
-        } else {
-            GerenciadorAudio.getInstancia().tocarSom("damage.wav");
+        if (armazem != null) {
+            armazem.sofrerDano(indice, dano);
         }
     }
 
@@ -376,7 +435,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return true se está morrendo, false caso contrário
      */
     public boolean estaMorrendo() {
-        return morrendo;
+        return armazem != null ? armazem.isMorrendo(indice) : morrendoFinal;
     }
 
     /**
@@ -385,7 +444,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return valor entre 0.0 e 1.0
      */
     public float getOpacidade() {
-        return opacidade;
+        return armazem != null ? armazem.getOpacidade(indice) : opacidadeFinal;
     }
 
     /**
@@ -395,8 +454,7 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return true se ainda tem opacidade, false se já desapareceu completamente
      */
     public boolean reduzirOpacidade(float reducao) {
-        this.opacidade = Math.max(0, this.opacidade - reducao);
-        return this.opacidade > 0;
+        return armazem != null ? armazem.reduzirOpacidade(indice, reducao) : opacidadeFinal > 0;
     }
 
     /**
@@ -405,17 +463,52 @@ public abstract class Personagem implements Movel, Combatente, Destrutivel {
      * @return true se o personagem já desapareceu completamente
      */
     public boolean desapareceuCompletamente() {
-        return morrendo && opacidade <= 0;
+        return armazem != null ? armazem.desapareceu(indice) : morrendoFinal && opacidadeFinal <= 0;
+    }
+
+    /**
+     * Atualiza o sprite conforme o estado atual (normal ou atacando).
+     * Deve ser chamado sempre que o estado que define a imagem mudar, para que
+     * o centro e os limites do personagem reflitam o sprite correto.
+     * Só o tamanho é lido aqui (do cabeçalho do PNG); a imagem é decodificada
+     * no primeiro desenho, então o motor sem interface não carrega imagens.
+     */
+    protected void atualizarIcone() {
+        String nomeImagem = isAtacando() ? getNomeImagemAtacando() : getNomeImagem();
+        Dimension tamanho = Objects.requireNonNull(CacheSprites.getInstancia().obterTamanho(nomeImagem),
+                "Sprite não encontrado: " + nomeImagem);
+        if (!nomeImagem.equals(nomeIcone)) {
+            this.nomeIcone = nomeImagem;
+            this.icone = null;
+        }
+        armazem.setDimensoesSprite(indice, tamanho.width, tamanho.height);
+    }
+
+    /**
+     * Verifica se o personagem está montado (só cavaleiros montam).
+     */
+    protected boolean estaMontado() {
+        return armazem != null ? armazem.isMontado(indice) : montadoFinal;
+    }
+
+    /**
+     * Define o estado de montaria; sem efeito depois de removido.
+     */
+    protected void definirMontado(boolean montado) {
+        if (armazem != null) {
+            armazem.setMontado(indice, montado);
+        }
     }
 
     /**
-     * Método auxiliar para carregar uma imagem do disco
+     * Método auxiliar para obter uma imagem do cache de sprites.
+     * O PNG só é lido do disco na primeira vez em que é solicitado.
      *
      * @param imagem nome da imagem (sem extensão)
      * @return objeto Image carregado
      */
     protected Image carregarImagem(String imagem) {
-        return new ImageIcon(Objects.requireNonNull(
-                getClass().getClassLoader().getResource("./" + imagem + ".png"))).getImage();
+        return Objects.requireNonNull(CacheSprites.getInstancia().obter(imagem),
+                "Sprite não encontrado: " + imagem);
     }
 }
@@ -1,83 +1,65 @@
 package ifsc.joe.domain;
 
-import ifsc.joe.config.Constantes;
 import ifsc.joe.enums.TipoRecurso;
 import ifsc.joe.interfaces.Posicionavel;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Objects;
 
 /**
  * Representa um recurso coletável no mapa.
+ * Imagem, cor e quantidade vêm do {@link ModeloRecurso} compartilhado pelo tipo;
+ * cada recurso guarda apenas o modelo e sua posição.
  */
 public class Recurso implements Posicionavel {
 
-    private final TipoRecurso tipo;
-    private final int quantidade;
-    private int posX;
-    private int posY;
-    private Image imagem;
+    private final ModeloRecurso modelo;
+    private final int posX;
+    private final int posY;
 
     public Recurso(TipoRecurso tipo, int x, int y) {
-        this.tipo = tipo;
-        this.posX = x;
-        this.posY = y;
-        this.quantidade = Constantes.Recursos.QUANTIDADE_PADRAO;
-        this.imagem = carregarImagem();
+        this(ModeloRecurso.de(tipo), x, y);
     }
 
-    private Image carregarImagem() {
-        String nomeArquivo = switch (tipo) {
-            case COMIDA -> "food";
-            case OURO -> "gold";
-            case MADEIRA -> "wood";
-        };
-        try {
-            return new ImageIcon(Objects.requireNonNull(
-                    getClass().getClassLoader().getResource("./" + nomeArquivo + ".png"))).getImage();
-        } catch (Exception e) {
-            // Fallback se imagem não existir: cria uma imagem colorida simples em memória
-            return null; // Será tratado no draw
-        }
+    public Recurso(ModeloRecurso modelo, int x, int y) {
+        this.modelo = modelo;
+        this.posX = x;
+        this.posY = y;
     }
 
     public void desenhar(Graphics g, JPanel painel) {
-        if (imagem != null) {
-            g.drawImage(imagem, posX, posY, painel);
-        } else {
-            // Desenho fallback
-            g.setColor(getCorPorTipo());
-            g.fillOval(posX, posY, 20, 20);
-            g.setColor(Color.BLACK);
-            g.drawOval(posX, posY, 20, 20);
-        }
+        g.drawImage(modelo.getImagem(), posX, posY, painel);
     }
 
-    private Color getCorPorTipo() {
-        return switch (tipo) {
-            case COMIDA -> Constantes.Recursos.COR_COMIDA;
-            case OURO -> Constantes.Recursos.COR_OURO;
-            case MADEIRA -> Constantes.Recursos.COR_MADEIRA;
-        };
+    /**
+     * Retorna o retângulo ocupado pelo recurso na tela.
+     *
+     * @return limites de desenho do recurso
+     */
+    public Rectangle getLimites() {
+        return new Rectangle(posX, posY, modelo.getLargura(), modelo.getAltura());
     }
 
     @Override
     public int getCentroX() {
-        return posX + 10; // Aproximação do centro (20x20)
+        return posX + modelo.getLargura() / 2;
     }
 
     @Override
     public int getCentroY() {
-        return posY + 10;
+        return posY + modelo.getAltura() / 2;
     }
 
     public TipoRecurso getTipo() {
-        return tipo;
+        return modelo.getTipo();
     }
 
     public int getQuantidade() {
-        return quantidade;
+        return modelo.getQuantidadePadrao();
+    }
+
+    public ModeloRecurso getModelo() {
+        return modelo;
     }
 
     @Override
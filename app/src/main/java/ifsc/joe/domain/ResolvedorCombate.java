@@ -0,0 +1,129 @@
+package ifsc.joe.domain;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.TipoPersonagem;
+import ifsc.joe.utils.GradeEspacial;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Primeira fase do combate: calcula, para cada personagem, o dano total que
+ * receberá dos atacantes no alcance, sem alterar nenhum estado.
+ * <p>
+ * Cada alvo soma o dano dos atacantes vizinhos e escreve apenas no seu
+ * próprio acumulador, então os alvos podem ser processados em paralelo
+ * (fork/join sobre faixas de células da grade) e o resultado é idêntico ao
+ * serial, qualquer que seja a ordem. A aplicação dos totais (segunda fase)
+ * fica com quem chama, em uma única thread.
+ */
+public class ResolvedorCombate {
+
+    private final ArmazemEntidades armazem;
+    private final GradeEspacial<Personagem> grade;
+    private final int alcanceMaximo;
+    private final boolean paralelo;
+
+    /**
+     * @param armazem       armazém dos personagens
+     * @param grade         grade espacial dos personagens, indexados pelo centro
+     * @param alcanceMaximo maior alcance de ataque entre os tipos
+     * @param paralelo      true para dividir os alvos entre as threads do ForkJoinPool
+     */
+    public ResolvedorCombate(ArmazemEntidades armazem, GradeEspacial<Personagem> grade,
+                             int alcanceMaximo, boolean paralelo) {
+        this.armazem = armazem;
+        this.grade = grade;
+        this.alcanceMaximo = alcanceMaximo;
+        this.paralelo = paralelo;
+    }
+
+    /**
+     * Acumula o dano que cada personagem recebe dos atacantes.
+     * Nem o armazém nem a grade podem ser alterados durante a chamada.
+     *
+     * @param atacantes vetor indexado pelo armazém indicando quem ataca
+     * @param danos     recebe o dano total por personagem (zerado aqui)
+     * @param golpes    recebe a quantidade de atacantes que atingiram cada personagem (zerado aqui)
+     */
+    public void acumularDanos(boolean[] atacantes, int[] danos, int[] golpes) {
+        int quantidade = armazem.getQuantidade();
+        Arrays.fill(danos, 0, quantidade, 0);
+        Arrays.fill(golpes, 0, quantidade, 0);
+
+        TarefaFaixa tarefa = new TarefaFaixa(atacantes, danos, golpes, 0, grade.getQuantidadeCelulas());
+        if (paralelo) {
+            ForkJoinPool.commonPool().invoke(tarefa);
+        } else {
+            tarefa.processar();
+        }
+    }
+
+    public boolean isParalelo() {
+        return paralelo;
+    }
+
+    /**
+     * Soma o dano recebido por um alvo de todos os atacantes que o alcançam.
+     */
+    private void acumularAlvo(int alvo, boolean[] atacantes, int[] danos, int[] golpes) {
+        int centroX = armazem.getCentroX(alvo);
+        int centroY = armazem.getCentroY(alvo);
+
+        grade.consultar(centroX - alcanceMaximo, centroY - alcanceMaximo,
+                centroX + alcanceMaximo, centroY + alcanceMaximo, candidato -> {
+                    int atacante = candidato.getIndice();
+                    // Não ataca a si mesmo e só ataca se estiver no alcance
+                    if (atacante == alvo || !atacantes[atacante])
+                        return;
+
+                    TipoPersonagem tipo = armazem.getTipo(atacante);
+                    long alcance = tipo.getAlcance();
+                    if (armazem.calcularDistanciaAoQuadrado(atacante, alvo) <= alcance * alcance) {
+                        danos[alvo] += tipo.getAtaque();
+                        golpes[alvo]++;
+                    }
+                });
+    }
+
+    /**
+     * Processa os alvos de uma faixa contígua de células da grade,
+     * dividindo-a enquanto for maior que {@link Constantes.Combate#CELULAS_POR_TAREFA}.
+     */
+    @SuppressWarnings("serial") // Tarefas do ForkJoinPool nunca são serializadas
+    private final class TarefaFaixa extends RecursiveAction {
+
+        private final boolean[] atacantes;
+        private final int[] danos;
+        private final int[] golpes;
+        private final int celulaInicial;
+        private final int celulaFinal;
+
+        TarefaFaixa(boolean[] atacantes, int[] danos, int[] golpes, int celulaInicial, int celulaFinal) {
+            this.atacantes = atacantes;
+            this.danos = danos;
+            this.golpes = golpes;
+            this.celulaInicial = celulaInicial;
+            this.celulaFinal = celulaFinal;
+        }
+
+        @Override
+        protected void compute() {
+            if (celulaFinal - celulaInicial <= Constantes.Combate.CELULAS_POR_TAREFA) {
+                processar();
+                return;
+            }
+
+            int meio = (celulaInicial + celulaFinal) >>> 1;
+            invokeAll(new TarefaFaixa(atacantes, danos, golpes, celulaInicial, meio),
+                    new TarefaFaixa(atacantes, danos, golpes, meio, celulaFinal));
+        }
+
+        void processar() {
+            for (int celula = celulaInicial; celula < celulaFinal; celula++) {
+                grade.visitarCelula(celula, alvo -> acumularAlvo(alvo.getIndice(), atacantes, danos, golpes));
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package ifsc.joe.domain.impl;
 
 import ifsc.joe.config.Constantes;
+import ifsc.joe.domain.ArmazemEntidades;
 import ifsc.joe.domain.Personagem;
 import ifsc.joe.domain.Recurso;
+import ifsc.joe.enums.TipoPersonagem;
 import ifsc.joe.interfaces.Coletador;
 
 import java.awt.*;
@@ -18,47 +20,24 @@ public class Aldeao extends Personagem implements Coletador {
     private static final String NOME_IMAGEM_ATACANDO = "aldeao2";
 
     public Aldeao(int x, int y) {
-        super(x, y);
-    }
-
-    @Override
-    public String getNomeImagem() {
-        return NOME_IMAGEM;
-    }
-
-    @Override
-    public String getNomeImagemAtacando() {
-        return NOME_IMAGEM_ATACANDO;
-    }
-
-    /**
-     * O Aldeão tem alcance curto de ataque.
-     *
-     * @return alcance de ataque em pixels
-     */
-    @Override
-    public int getAlcanceAtaque() {
-        return Constantes.Aldeao.ALCANCE;
+        this(new ArmazemEntidades(1), x, y);
     }
 
     /**
-     * O Aldeão tem um ataque fraco.
-     *
-     * @return valor de ataque base
+     * Cria o aldeão guardando seu estado no armazém informado.
      */
-    @Override
-    public int getAtaqueBase() {
-        return Constantes.Aldeao.ATAQUE;
+    public Aldeao(ArmazemEntidades armazem, int x, int y) {
+        super(armazem, TipoPersonagem.ALDEAO, x, y);
     }
 
     @Override
-    public int getVidaInicial() {
-        return Constantes.Aldeao.VIDA;
+    public String getNomeImagem() {
+        return NOME_IMAGEM;
     }
 
     @Override
-    public int getVelocidade() {
-        return Constantes.Aldeao.VELOCIDADE;
+    public String getNomeImagemAtacando() {
+        return NOME_IMAGEM_ATACANDO;
     }
 
     /**
@@ -73,7 +52,6 @@ public class Aldeao extends Personagem implements Coletador {
 
     @Override
     public void coletar(Recurso recurso) {
-        System.out.println("Aldeão coletou " + recurso.getQuantidade() + " de " + recurso.getTipo());
-        // Animação ou som específico poderia ser aqui
+        // O som e a mensagem da coleta vêm do evento publicado pelo motor
     }
 }
@@ -1,7 +1,9 @@
 package ifsc.joe.domain.impl;
 
 import ifsc.joe.config.Constantes;
+import ifsc.joe.domain.ArmazemEntidades;
 import ifsc.joe.domain.Personagem;
+import ifsc.joe.enums.TipoPersonagem;
 
 import java.awt.*;
 
@@ -16,57 +18,24 @@ public class Arqueiro extends Personagem {
     private static final String NOME_IMAGEM_ATACANDO = "arqueiro2";
 
     public Arqueiro(int x, int y) {
-        super(x, y);
-    }
-
-    @Override
-    public String getNomeImagem() {
-        return NOME_IMAGEM;
-    }
-
-    @Override
-    public String getNomeImagemAtacando() {
-        return NOME_IMAGEM_ATACANDO;
-    }
-
-    /**
-     * O Arqueiro é mais ágil e se move mais rápido que o Aldeão.
-     *
-     * @return velocidade em pixels por movimento
-     */
-    @Override
-    public int getVelocidade() {
-        return Constantes.Arqueiro.VELOCIDADE;
+        this(new ArmazemEntidades(1), x, y);
     }
 
     /**
-     * O Arqueiro tem ataque moderado com suas flechas.
-     *
-     * @return valor de ataque do arqueiro
+     * Cria o arqueiro guardando seu estado no armazém informado.
      */
-    @Override
-    public int getAtaqueBase() {
-        return Constantes.Arqueiro.ATAQUE;
+    public Arqueiro(ArmazemEntidades armazem, int x, int y) {
+        super(armazem, TipoPersonagem.ARQUEIRO, x, y);
     }
 
-    /**
-     * O Arqueiro tem menos vida por usar armadura leve.
-     *
-     * @return vida inicial do arqueiro
-     */
     @Override
-    public int getVidaInicial() {
-        return Constantes.Arqueiro.VIDA;
+    public String getNomeImagem() {
+        return NOME_IMAGEM;
     }
 
-    /**
-     * O Arqueiro tem o maior alcance de ataque, podendo acertar de longe.
-     *
-     * @return alcance de ataque em pixels
-     */
     @Override
-    public int getAlcanceAtaque() {
-        return Constantes.Arqueiro.ALCANCE;
+    public String getNomeImagemAtacando() {
+        return NOME_IMAGEM_ATACANDO;
     }
 
     /**
@@ -1,14 +1,17 @@
 package ifsc.joe.domain.impl;
 
 import ifsc.joe.config.Constantes;
+import ifsc.joe.domain.ArmazemEntidades;
 import ifsc.joe.domain.Personagem;
+import ifsc.joe.enums.TipoPersonagem;
 
 import java.awt.*;
 
 /**
  * Classe que representa um Cavaleiro no jogo.
  * O Cavaleiro pode alternar entre montado e desmontado.
- * Quando montado, é mais rápido. Quando desmontado, é um guerreiro.
+ * Quando montado, é mais rápido. Quando desmontado, é um guerreiro
+ * (as velocidades vêm do {@link TipoPersonagem}).
  * Especializado em combate corpo a corpo com alcance médio (75px).
  */
 public class Cavaleiro extends Personagem {
@@ -18,22 +21,28 @@ public class Cavaleiro extends Personagem {
     private static final String NOME_IMAGEM_DESMONTADO = "guerreiro";
     private static final String NOME_IMAGEM_DESMONTADO_ATACANDO = "guerreiro2";
 
-    private boolean montado;
-
     public Cavaleiro(int x, int y) {
-        super(x, y);
-        this.montado = true; // Começa montado por padrão
+        this(new ArmazemEntidades(1), x, y);
+    }
+
+    /**
+     * Cria o cavaleiro guardando seu estado no armazém informado.
+     */
+    public Cavaleiro(ArmazemEntidades armazem, int x, int y) {
+        super(armazem, TipoPersonagem.CAVALEIRO, x, y);
+        definirMontado(true); // Começa montado por padrão
+        atualizarIcone();
     }
 
     @Override
     public String getNomeImagem() {
-        return montado ? NOME_IMAGEM_MONTADO : NOME_IMAGEM_DESMONTADO;
+        return isMontado() ? NOME_IMAGEM_MONTADO : NOME_IMAGEM_DESMONTADO;
     }
 
     @Override
     public String getNomeImagemAtacando() {
         // Retorna a imagem de ataque correspondente ao estado de montaria
-        return montado ? NOME_IMAGEM_MONTADO_ATACANDO : NOME_IMAGEM_DESMONTADO_ATACANDO;
+        return isMontado() ? NOME_IMAGEM_MONTADO_ATACANDO : NOME_IMAGEM_DESMONTADO_ATACANDO;
     }
 
     /**
@@ -41,7 +50,10 @@ public class Cavaleiro extends Personagem {
      * Quando montado, fica mais rápido. Quando desmontado, é um guerreiro.
      */
     public void alternarMontado() {
-        this.montado = !this.montado;
+        if (isRemovido())
+            return;
+        definirMontado(!isMontado());
+        atualizarIcone();
     }
 
     /**
@@ -50,48 +62,7 @@ public class Cavaleiro extends Personagem {
      * @return true se montado, false se desmontado
      */
     public boolean isMontado() {
-        return montado;
-    }
-
-    /**
-     * A velocidade do Cavaleiro depende se está montado ou não.
-     * Montado é mais rápido, desmontado tem velocidade normal.
-     *
-     * @return velocidade em pixels por movimento
-     */
-    @Override
-    public int getVelocidade() {
-        return montado ? Constantes.Cavaleiro.VELOCIDADE_MONTADO : Constantes.Cavaleiro.VELOCIDADE_DESMONTADO;
-    }
-
-    /**
-     * O Cavaleiro tem alto poder de ataque devido à força do combate montado.
-     *
-     * @return valor de ataque do cavaleiro
-     */
-    @Override
-    public int getAtaqueBase() {
-        return Constantes.Cavaleiro.ATAQUE;
-    }
-
-    /**
-     * O Cavaleiro tem mais vida por usar armadura pesada.
-     *
-     * @return vida inicial do cavaleiro
-     */
-    @Override
-    public int getVidaInicial() {
-        return Constantes.Cavaleiro.VIDA;
-    }
-
-    /**
-     * O Cavaleiro tem alcance médio de ataque (lança/espada montada).
-     *
-     * @return alcance de ataque em pixels
-     */
-    @Override
-    public int getAlcanceAtaque() {
-        return Constantes.Cavaleiro.ALCANCE;
+        return estaMontado();
     }
 
     /**
@@ -0,0 +1,12 @@
+package ifsc.joe.enums;
+
+/**
+ * Níveis de detalhe usados para desenhar os personagens.
+ * Do mais detalhado para o mais simplificado.
+ */
+public enum NivelDetalhe {
+    COMPLETO,   // Sprite, aura e barra de vida de cada personagem
+    REDUZIDO,   // Sprite, auras unidas em uma camada de cobertura e barra só para feridos
+    PONTOS,     // Cada personagem vira um ponto colorido
+    MAPA_CALOR  // Densidade de personagens por célula
+}
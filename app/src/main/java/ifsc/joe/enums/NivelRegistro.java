@@ -0,0 +1,11 @@
+package ifsc.joe.enums;
+
+/**
+ * Níveis do registro de combate, do mais detalhado ao desligado.
+ * Um registro é escrito se seu nível for igual ou maior que o configurado.
+ */
+public enum NivelRegistro {
+    DETALHE,   // Cada golpe aplicado
+    INFO,      // Baixas, coletas e placar
+    DESLIGADO  // Nada é registrado
+}
@@ -0,0 +1,13 @@
+package ifsc.joe.enums;
+
+/**
+ * Tipos de evento publicados pelo motor de simulação no barramento de eventos.
+ */
+public enum TipoEvento {
+    CRIACAO,   // Personagem criado
+    ATACAR,    // Personagem alternou o estado de ataque
+    DANO,      // Personagem recebeu o dano total de um ataque (pode ter morrido)
+    MORTE,     // Personagem terminou o fade-out e saiu do mundo
+    COLETA,    // Aldeões coletaram recursos (um evento por comando de coleta)
+    MONTARIA   // Cavaleiro montou ou desmontou
+}
@@ -0,0 +1,84 @@
+package ifsc.joe.enums;
+
+import ifsc.joe.config.Constantes;
+
+/**
+ * Tipos de personagem e seus atributos constantes.
+ * Os laços sobre o {@link ifsc.joe.domain.ArmazemEntidades} consultam estes
+ * valores pelo tipo, sem chamadas virtuais por personagem.
+ */
+public enum TipoPersonagem {
+    ALDEAO("Aldeao", Constantes.Aldeao.VIDA, Constantes.Aldeao.ATAQUE, Constantes.Aldeao.ALCANCE,
+            Constantes.Aldeao.VELOCIDADE, Constantes.Aldeao.VELOCIDADE, true, TipoSom.CRIACAO_ALDEAO),
+    ARQUEIRO("Arqueiro", Constantes.Arqueiro.VIDA, Constantes.Arqueiro.ATAQUE, Constantes.Arqueiro.ALCANCE,
+            Constantes.Arqueiro.VELOCIDADE, Constantes.Arqueiro.VELOCIDADE, false, TipoSom.CRIACAO_ARQUEIRO),
+    CAVALEIRO("Cavaleiro", Constantes.Cavaleiro.VIDA, Constantes.Cavaleiro.ATAQUE, Constantes.Cavaleiro.ALCANCE,
+            Constantes.Cavaleiro.VELOCIDADE_MONTADO, Constantes.Cavaleiro.VELOCIDADE_DESMONTADO, false,
+            TipoSom.CRIACAO_CAVALEIRO);
+
+    private final String nome;
+
+    private final int vidaInicial;
+    private final int ataque;
+    private final int alcance;
+    private final int velocidadeMontado;
+    private final int velocidade;
+    private final boolean coletador;
+    private final TipoSom somCriacao;
+
+    TipoPersonagem(String nome, int vidaInicial, int ataque, int alcance, int velocidadeMontado, int velocidade,
+                   boolean coletador, TipoSom somCriacao) {
+        this.nome = nome;
+        this.vidaInicial = vidaInicial;
+        this.ataque = ataque;
+        this.alcance = alcance;
+        this.velocidadeMontado = velocidadeMontado;
+        this.velocidade = velocidade;
+        this.coletador = coletador;
+        this.somCriacao = somCriacao;
+    }
+
+    /**
+     * Retorna o nome exibido no console (o mesmo da classe do personagem).
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    public int getVidaInicial() {
+        return vidaInicial;
+    }
+
+    public int getAtaque() {
+        return ataque;
+    }
+
+    public int getAlcance() {
+        return alcance;
+    }
+
+    /**
+     * Retorna a velocidade conforme o estado de montaria.
+     * Apenas cavaleiros têm velocidades diferentes montados e desmontados.
+     *
+     * @param montado true se o personagem está montado
+     * @return velocidade em pixels por movimento
+     */
+    public int getVelocidade(boolean montado) {
+        return montado ? velocidadeMontado : velocidade;
+    }
+
+    /**
+     * Verifica se o tipo coleta recursos.
+     */
+    public boolean isColetador() {
+        return coletador;
+    }
+
+    /**
+     * Retorna o som tocado quando um personagem do tipo é criado.
+     */
+    public TipoSom getSomCriacao() {
+        return somCriacao;
+    }
+}
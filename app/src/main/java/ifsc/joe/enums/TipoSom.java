@@ -0,0 +1,50 @@
+package ifsc.joe.enums;
+
+/**
+ * Efeitos sonoros do jogo, com o arquivo e a prioridade de cada um.
+ * Com todas as vozes do mixer ocupadas, sons de prioridade maior tomam o
+ * lugar dos de prioridade menor.
+ */
+public enum TipoSom {
+    ATAQUE("attack.wav", 1),
+    DANO("damage.wav", 2),
+    MORTE("death.wav", 3),
+    // Ações do jogador, raras e esperadas por quem as fez
+    COLETA("collect.wav", 3),
+    CRIACAO_ALDEAO("create_villager.wav", 3),
+    CRIACAO_ARQUEIRO("create_archer.wav", 3),
+    CRIACAO_CAVALEIRO("create_knight.wav", 3);
+
+    private final String arquivo;
+    private final int prioridade;
+
+    TipoSom(String arquivo, int prioridade) {
+        this.arquivo = arquivo;
+        this.prioridade = prioridade;
+    }
+
+    /**
+     * Retorna o arquivo WAV do som, na pasta resources.
+     */
+    public String getArquivo() {
+        return arquivo;
+    }
+
+    public int getPrioridade() {
+        return prioridade;
+    }
+
+    /**
+     * Retorna o som cujo arquivo tem o nome informado, ou null se nenhum tiver.
+     *
+     * @param arquivo nome do arquivo WAV
+     */
+    public static TipoSom doArquivo(String arquivo) {
+        for (TipoSom som : values()) {
+            if (som.arquivo.equals(arquivo)) {
+                return som;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,266 @@
+package ifsc.joe.eventos;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.TipoEvento;
+import ifsc.joe.enums.TipoPersonagem;
+import ifsc.joe.enums.TipoRecurso;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Barramento de eventos do jogo em um anel pré-alocado, com um único
+ * produtor (a thread que avança o {@link ifsc.joe.simulacao.MotorSimulacao}).
+ * <p>
+ * Publicar um evento apenas preenche a próxima posição do anel e avança um
+ * contador volátil: não há alocação, trava nem E/S no laço do motor. Cada
+ * consumidor registrado tem uma thread e um contador de leitura próprios e
+ * processa os eventos em lote, no seu ritmo. O produtor só espera se o
+ * consumidor mais lento ficar uma volta inteira para trás (o anel cheio);
+ * as esperas são contadas em {@link #getEsperasProdutor()}.
+ * <p>
+ * Ninguém espera girando: um consumidor sem eventos dorme até que
+ * {@code publicar()} o acorde, e o produtor com o anel cheio dorme até que um
+ * consumidor avance. Cada lado anuncia que vai dormir em um campo volátil e
+ * confere a condição de novo antes de dormir, então nenhum aviso se perde; com
+ * todos acordados, publicar custa só a leitura desses campos.
+ * <p>
+ * Consumidores registrados depois que o jogo começou recebem apenas os
+ * eventos publicados a partir do registro.
+ */
+public class BarramentoEventos {
+
+    private static final TipoRecurso[] RECURSOS = TipoRecurso.values();
+
+    private final EventoJogo[] eventos;
+    private final int mascara;
+
+    // Sequência do próximo evento a publicar (só o produtor escreve)
+    private long proximo;
+    // Eventos com sequência menor que esta estão visíveis aos consumidores
+    private volatile long publicado;
+    private long passo;
+    private long esperasProdutor;
+
+    private volatile Leitor[] leitores;
+    // Thread do produtor enquanto ela dorme esperando os consumidores, ou null
+    private volatile Thread produtorEsperando;
+
+    public BarramentoEventos() {
+        this(Constantes.Eventos.CAPACIDADE);
+    }
+
+    /**
+     * @param capacidade quantidade de posições do anel, arredondada para potência de 2
+     */
+    public BarramentoEventos(int capacidade) {
+        int tamanho = capacidade <= 2 ? 2 : Integer.highestOneBit(capacidade - 1) << 1;
+        this.eventos = new EventoJogo[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            eventos[i] = new EventoJogo();
+        }
+        this.mascara = tamanho - 1;
+        this.leitores = new Leitor[0];
+    }
+
+    /**
+     * Registra um consumidor e inicia sua thread.
+     *
+     * @param nome       nome da thread, para diagnóstico
+     * @param consumidor consumidor dos eventos
+     */
+    public synchronized void registrar(String nome, ConsumidorEventos consumidor) {
+        Leitor leitor = new Leitor(consumidor, publicado, "eventos-" + nome);
+        Leitor[] novos = Arrays.copyOf(leitores, leitores.length + 1);
+        novos[leitores.length] = leitor;
+        leitores = novos;
+        leitor.thread.start();
+    }
+
+    /**
+     * Define o passo da simulação gravado nos próximos eventos.
+     */
+    public void setPasso(long passo) {
+        this.passo = passo;
+    }
+
+    public void publicarCriacao(TipoPersonagem personagem, int x, int y) {
+        reservar(TipoEvento.CRIACAO, personagem, x, y);
+        publicar();
+    }
+
+    /**
+     * @param atacando true se o personagem passou a atacar
+     */
+    public void publicarAtaque(TipoPersonagem personagem, int x, int y, boolean atacando) {
+        reservar(TipoEvento.ATACAR, personagem, x, y).setAtivo(atacando);
+        publicar();
+    }
+
+    /**
+     * @param dano   dano total recebido no ataque
+     * @param golpes quantidade de atacantes que atingiram o alvo
+     * @param vida   vida restante
+     * @param morreu true se o dano matou o personagem
+     */
+    public void publicarDano(TipoPersonagem personagem, int x, int y, int dano, int golpes, int vida,
+                             boolean morreu) {
+        EventoJogo evento = reservar(TipoEvento.DANO, personagem, x, y);
+        evento.setValor(dano);
+        evento.setQuantidade(golpes);
+        evento.setVida(vida);
+        evento.setAtivo(morreu);
+        publicar();
+    }
+
+    public void publicarMorte(TipoPersonagem personagem, int x, int y) {
+        reservar(TipoEvento.MORTE, personagem, x, y);
+        publicar();
+    }
+
+    /**
+     * @param totais   total coletado por tipo de recurso, indexado pelo ordinal
+     * @param recursos quantidade de recursos coletados
+     */
+    public void publicarColeta(int[] totais, int recursos) {
+        EventoJogo evento = reservar(TipoEvento.COLETA, null, 0, 0);
+        int soma = 0;
+        for (TipoRecurso recurso : RECURSOS) {
+            evento.setTotalRecurso(recurso, totais[recurso.ordinal()]);
+            soma += totais[recurso.ordinal()];
+        }
+        evento.setValor(soma);
+        evento.setQuantidade(recursos);
+        publicar();
+    }
+
+    /**
+     * @param montado true se o cavaleiro ficou montado
+     */
+    public void publicarMontaria(int x, int y, boolean montado) {
+        reservar(TipoEvento.MONTARIA, TipoPersonagem.CAVALEIRO, x, y).setAtivo(montado);
+        publicar();
+    }
+
+    /**
+     * Aguarda até que todos os consumidores tenham processado os eventos já publicados.
+     * Usado ao encerrar uma execução, antes de ler estatísticas.
+     */
+    public void aguardarConsumo() {
+        aguardarLeitores(publicado);
+    }
+
+    /**
+     * Retorna quantas vezes o produtor encontrou o anel cheio e precisou esperar.
+     */
+    public long getEsperasProdutor() {
+        return esperasProdutor;
+    }
+
+    /**
+     * Retorna a quantidade total de eventos publicados.
+     */
+    public long getPublicados() {
+        return publicado;
+    }
+
+    private EventoJogo reservar(TipoEvento tipo, TipoPersonagem personagem, int x, int y) {
+        // Anel cheio: espera o consumidor mais lento liberar a posição
+        if (proximo - menorLido() >= eventos.length) {
+            esperasProdutor++;
+            aguardarLeitores(proximo - eventos.length + 1);
+        }
+
+        EventoJogo evento = eventos[(int) (proximo & mascara)];
+        evento.preencher(tipo, passo, personagem, x, y);
+        return evento;
+    }
+
+    private void publicar() {
+        publicado = ++proximo;
+        for (Leitor leitor : leitores) {
+            if (leitor.dormindo) {
+                LockSupport.unpark(leitor.thread);
+            }
+        }
+    }
+
+    /**
+     * Dorme até que todos os consumidores tenham lido os eventos com sequência
+     * menor que o alvo. Acordado pelos consumidores a cada evento lido.
+     */
+    private void aguardarLeitores(long alvo) {
+        while (menorLido() < alvo) {
+            produtorEsperando = Thread.currentThread();
+            // Confere de novo depois de se anunciar, para não perder o aviso
+            if (menorLido() < alvo) {
+                LockSupport.park(this);
+            }
+            produtorEsperando = null;
+        }
+    }
+
+    private long menorLido() {
+        long menor = publicado;
+        for (Leitor leitor : leitores) {
+            menor = Math.min(menor, leitor.lido);
+        }
+        return menor;
+    }
+
+    /**
+     * Thread de um consumidor: lê os eventos publicados em lotes e os repassa.
+     */
+    private final class Leitor implements Runnable {
+
+        private final ConsumidorEventos consumidor;
+        private final Thread thread;
+        // Eventos com sequência menor que esta já foram consumidos
+        private volatile long lido;
+        // true enquanto a thread dorme (ou está prestes a dormir) sem eventos
+        private volatile boolean dormindo;
+
+        Leitor(ConsumidorEventos consumidor, long inicio, String nome) {
+            this.consumidor = consumidor;
+            this.lido = inicio;
+            this.thread = new Thread(this, nome);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long sequencia = lido;
+            while (!Thread.currentThread().isInterrupted()) {
+                long disponivel = publicado;
+                if (sequencia == disponivel) {
+                    dormindo = true;
+                    // Confere de novo depois de se anunciar, para não perder o aviso
+                    if (publicado == sequencia) {
+                        LockSupport.park(this);
+                    }
+                    dormindo = false;
+                    continue;
+                }
+
+                while (sequencia < disponivel) {
+                    try {
+                        consumidor.aoEvento(eventos[(int) (sequencia & mascara)]);
+                    } catch (RuntimeException e) {
+                        System.err.println("[EVENTOS] Erro no consumidor: " + e);
+                    }
+                    lido = ++sequencia;
+                    Thread produtor = produtorEsperando;
+                    if (produtor != null) {
+                        LockSupport.unpark(produtor);
+                    }
+                }
+
+                try {
+                    consumidor.aoFimLote();
+                } catch (RuntimeException e) {
+                    System.err.println("[EVENTOS] Erro no consumidor: " + e);
+                }
+            }
+        }
+    }
+}
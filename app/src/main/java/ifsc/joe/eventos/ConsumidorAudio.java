@@ -0,0 +1,30 @@
+package ifsc.joe.eventos;
+
+import ifsc.joe.enums.TipoSom;
+import ifsc.joe.utils.GerenciadorAudio;
+
+/**
+ * Toca os efeitos sonoros a partir dos eventos do jogo, fora do laço do motor.
+ * Os sons vão para o destino configurado no {@link GerenciadorAudio}, onde o
+ * mixer agrupa sons iguais em sequência.
+ */
+public class ConsumidorAudio implements ConsumidorEventos {
+
+    @Override
+    public void aoEvento(EventoJogo evento) {
+        GerenciadorAudio audio = GerenciadorAudio.getInstancia();
+        switch (evento.getTipo()) {
+            case CRIACAO -> audio.tocarSom(evento.getPersonagem().getSomCriacao());
+            case ATACAR -> {
+                if (evento.isAtivo()) {
+                    audio.tocarSom(TipoSom.ATAQUE);
+                }
+            }
+            case DANO -> audio.tocarSom(evento.isAtivo() ? TipoSom.MORTE : TipoSom.DANO);
+            case COLETA -> audio.tocarSom(TipoSom.COLETA);
+            default -> {
+                // Morte (fim do fade-out) e montaria não têm som
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ifsc.joe.eventos;
+
+/**
+ * Consumidor registrado no {@link BarramentoEventos}.
+ * Cada consumidor roda em uma thread própria e recebe todos os eventos na
+ * ordem de publicação, sem bloquear o motor de simulação.
+ */
+public interface ConsumidorEventos {
+
+    /**
+     * Trata um evento. A referência só é válida durante a chamada.
+     *
+     * @param evento evento publicado
+     */
+    void aoEvento(EventoJogo evento);
+
+    /**
+     * Chamado após um lote de eventos disponíveis ser consumido, para agrupar
+     * efeitos (ex: redesenhar o placar uma única vez).
+     */
+    default void aoFimLote() {
+    }
+}
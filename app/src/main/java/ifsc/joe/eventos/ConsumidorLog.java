@@ -0,0 +1,101 @@
+package ifsc.joe.eventos;
+
+import ifsc.joe.enums.NivelRegistro;
+import ifsc.joe.enums.TipoPersonagem;
+import ifsc.joe.enums.TipoRecurso;
+import ifsc.joe.registro.RegistroCombate;
+
+/**
+ * Envia ao {@link RegistroCombate} as mensagens de ataque (nível DETALHE),
+ * baixa e coleta (nível INFO) a partir dos eventos do jogo. O placar de baixas
+ * é contado aqui, a partir dos eventos de morte, e registrado uma vez por lote
+ * que tenha baixas. Mensagens de níveis desabilitados nem são montadas.
+ */
+public class ConsumidorLog implements ConsumidorEventos {
+
+    private final RegistroCombate registro;
+    private final int[] baixas = new int[TipoPersonagem.values().length];
+    private final StringBuilder mensagem = new StringBuilder();
+    private boolean houveBaixa;
+
+    public ConsumidorLog() {
+        this(RegistroCombate.getInstancia());
+    }
+
+    public ConsumidorLog(RegistroCombate registro) {
+        this.registro = registro;
+    }
+
+    @Override
+    public void aoEvento(EventoJogo evento) {
+        switch (evento.getTipo()) {
+            case DANO -> {
+                if (registro.isHabilitado(NivelRegistro.DETALHE)) {
+                    registro.registrar(NivelRegistro.DETALHE, montarAtaque(evento));
+                }
+            }
+            case MORTE -> {
+                baixas[evento.getPersonagem().ordinal()]++;
+                houveBaixa = true;
+                if (registro.isHabilitado(NivelRegistro.INFO)) {
+                    registro.registrar(NivelRegistro.INFO,
+                            "[BAIXA] " + evento.getPersonagem().getNome() + " foi eliminado!");
+                }
+            }
+            case COLETA -> {
+                if (registro.isHabilitado(NivelRegistro.INFO)) {
+                    registro.registrar(NivelRegistro.INFO, montarColeta(evento));
+                }
+            }
+            default -> {
+                // Criação, ataque e montaria não são registrados
+            }
+        }
+    }
+
+    @Override
+    public void aoFimLote() {
+        if (!houveBaixa)
+            return;
+
+        houveBaixa = false;
+        if (registro.isHabilitado(NivelRegistro.INFO)) {
+            registro.registrar(NivelRegistro.INFO, montarPlacar());
+        }
+    }
+
+    private String montarAtaque(EventoJogo evento) {
+        mensagem.setLength(0);
+        mensagem.append("[ATAQUE] ").append(evento.getPersonagem().getNome())
+                .append(" recebeu ").append(evento.getValor())
+                .append(" de dano de ").append(evento.getQuantidade())
+                .append(evento.getQuantidade() == 1 ? " atacante" : " atacantes")
+                .append(" (vida: ").append(evento.getVida()).append(')');
+        return mensagem.toString();
+    }
+
+    private String montarColeta(EventoJogo evento) {
+        mensagem.setLength(0);
+        mensagem.append("[COLETA] ").append(evento.getQuantidade())
+                .append(" recursos coletados (comida +").append(evento.getTotalRecurso(TipoRecurso.COMIDA))
+                .append(", ouro +").append(evento.getTotalRecurso(TipoRecurso.OURO))
+                .append(", madeira +").append(evento.getTotalRecurso(TipoRecurso.MADEIRA)).append(')');
+        return mensagem.toString();
+    }
+
+    private String montarPlacar() {
+        int total = 0;
+        for (int quantidade : baixas) {
+            total += quantidade;
+        }
+        String linha = System.lineSeparator();
+        mensagem.setLength(0);
+        mensagem.append("=== PLACAR DE BAIXAS ===").append(linha)
+                .append("Aldeões: ").append(baixas[TipoPersonagem.ALDEAO.ordinal()]).append(linha)
+                .append("Arqueiros: ").append(baixas[TipoPersonagem.ARQUEIRO.ordinal()]).append(linha)
+                .append("Cavaleiros: ").append(baixas[TipoPersonagem.CAVALEIRO.ordinal()]).append(linha)
+                .append("Total: ").append(total).append(linha)
+                .append("========================");
+        return mensagem.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package ifsc.joe.eventos;
+
+import ifsc.joe.enums.TipoEvento;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Conta os eventos do jogo por tipo, além do dano total e dos recursos
+ * coletados. Pode ser lido de outra thread enquanto o jogo roda.
+ */
+public class EstatisticasEventos implements ConsumidorEventos {
+
+    private static final TipoEvento[] TIPOS = TipoEvento.values();
+
+    private final AtomicLongArray contagens = new AtomicLongArray(TIPOS.length);
+    private final AtomicLongArray totais = new AtomicLongArray(TIPOS.length);
+
+    @Override
+    public void aoEvento(EventoJogo evento) {
+        int tipo = evento.getTipo().ordinal();
+        contagens.incrementAndGet(tipo);
+        totais.addAndGet(tipo, evento.getValor());
+    }
+
+    /**
+     * Retorna quantos eventos do tipo foram consumidos.
+     */
+    public long getContagem(TipoEvento tipo) {
+        return contagens.get(tipo.ordinal());
+    }
+
+    /**
+     * Retorna a soma dos valores dos eventos do tipo (dano total, quantidade coletada).
+     */
+    public long getTotal(TipoEvento tipo) {
+        return totais.get(tipo.ordinal());
+    }
+
+    /**
+     * Gera um resumo de uma linha com a contagem de cada tipo de evento.
+     */
+    public String gerarRelatorio() {
+        StringBuilder relatorio = new StringBuilder();
+        for (TipoEvento tipo : TIPOS) {
+            if (relatorio.length() > 0) {
+                relatorio.append(", ");
+            }
+            relatorio.append(tipo.name().toLowerCase()).append(' ').append(getContagem(tipo));
+        }
+        relatorio.append(" | dano total ").append(getTotal(TipoEvento.DANO))
+                .append(", coletado ").append(getTotal(TipoEvento.COLETA));
+        return relatorio.toString();
+    }
+}
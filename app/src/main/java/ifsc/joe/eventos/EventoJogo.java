@@ -0,0 +1,128 @@
+package ifsc.joe.eventos;
+
+import ifsc.joe.enums.TipoEvento;
+import ifsc.joe.enums.TipoPersonagem;
+import ifsc.joe.enums.TipoRecurso;
+
+/**
+ * Evento publicado no {@link BarramentoEventos}.
+ * <p>
+ * Os eventos são pré-alocados no anel e reaproveitados: o produtor apenas
+ * preenche os campos de uma posição. Por isso um consumidor não deve guardar
+ * a referência depois de {@link ConsumidorEventos#aoEvento(EventoJogo)}
+ * retornar; se precisar, deve copiar os valores.
+ * <p>
+ * O significado de cada campo depende do tipo:
+ * <ul>
+ *   <li>{@code valor}: dano total (DANO) ou quantidade total coletada (COLETA)</li>
+ *   <li>{@code quantidade}: atacantes que atingiram o alvo (DANO) ou recursos coletados (COLETA)</li>
+ *   <li>{@code vida}: vida restante do alvo (DANO)</li>
+ *   <li>{@code ativo}: passou a atacar (ATACAR), ficou montado (MONTARIA) ou morreu (DANO)</li>
+ * </ul>
+ */
+public final class EventoJogo {
+
+    private TipoEvento tipo;
+    private long passo;
+    private TipoPersonagem personagem;
+    private int x;
+    private int y;
+    private int valor;
+    private int quantidade;
+    private int vida;
+    private boolean ativo;
+    private final int[] totaisRecurso = new int[TipoRecurso.values().length];
+
+    EventoJogo() {
+    }
+
+    /**
+     * Prepara a posição do anel para um novo evento, apagando o anterior.
+     */
+    void preencher(TipoEvento tipo, long passo, TipoPersonagem personagem, int x, int y) {
+        this.tipo = tipo;
+        this.passo = passo;
+        this.personagem = personagem;
+        this.x = x;
+        this.y = y;
+        this.valor = 0;
+        this.quantidade = 0;
+        this.vida = 0;
+        this.ativo = false;
+    }
+
+    void setValor(int valor) {
+        this.valor = valor;
+    }
+
+    void setQuantidade(int quantidade) {
+        this.quantidade = quantidade;
+    }
+
+    void setVida(int vida) {
+        this.vida = vida;
+    }
+
+    void setAtivo(boolean ativo) {
+        this.ativo = ativo;
+    }
+
+    void setTotalRecurso(TipoRecurso recurso, int total) {
+        totaisRecurso[recurso.ordinal()] = total;
+    }
+
+    public TipoEvento getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Retorna o passo da simulação em que o evento ocorreu.
+     */
+    public long getPasso() {
+        return passo;
+    }
+
+    /**
+     * Retorna o tipo do personagem envolvido, ou null em eventos de coleta.
+     */
+    public TipoPersonagem getPersonagem() {
+        return personagem;
+    }
+
+    /**
+     * Retorna a coordenada X do centro do personagem, no mundo.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Retorna a coordenada Y do centro do personagem, no mundo.
+     */
+    public int getY() {
+        return y;
+    }
+
+    public int getValor() {
+        return valor;
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public int getVida() {
+        return vida;
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    /**
+     * Retorna o total coletado de um tipo de recurso (COLETA).
+     */
+    public int getTotalRecurso(TipoRecurso recurso) {
+        return totaisRecurso[recurso.ordinal()];
+    }
+}
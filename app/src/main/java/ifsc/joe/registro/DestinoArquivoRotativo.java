@@ -0,0 +1,86 @@
+package ifsc.joe.registro;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Escreve os registros em arquivo, girando-o ao passar do tamanho máximo:
+ * o atual vira {@code .1}, o {@code .1} vira {@code .2} e assim por diante,
+ * descartando o mais antigo.
+ */
+public class DestinoArquivoRotativo implements DestinoRegistro {
+
+    private final Path arquivo;
+    private final long tamanhoMaximo;
+    private final int arquivosAntigos;
+
+    private BufferedWriter escritor;
+    private long tamanho;
+
+    /**
+     * @param arquivo         arquivo atual do registro
+     * @param tamanhoMaximo   tamanho, em bytes, a partir do qual o arquivo é girado
+     * @param arquivosAntigos quantidade de arquivos girados mantidos
+     */
+    public DestinoArquivoRotativo(Path arquivo, long tamanhoMaximo, int arquivosAntigos) throws IOException {
+        this.arquivo = arquivo;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.arquivosAntigos = arquivosAntigos;
+        abrir();
+    }
+
+    @Override
+    public void escrever(List<String> registros) throws IOException {
+        for (String registro : registros) {
+            if (tamanho >= tamanhoMaximo) {
+                girar();
+            }
+            escritor.write(registro);
+            escritor.newLine();
+            // Aproximado: as mensagens do registro são quase todas ASCII
+            tamanho += registro.length() + 1;
+        }
+        escritor.flush();
+    }
+
+    @Override
+    public void fechar() throws IOException {
+        escritor.close();
+    }
+
+    private void abrir() throws IOException {
+        Path pasta = arquivo.toAbsolutePath().getParent();
+        if (pasta != null) {
+            Files.createDirectories(pasta);
+        }
+        escritor = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        tamanho = Files.size(arquivo);
+    }
+
+    private void girar() throws IOException {
+        escritor.close();
+        for (int i = arquivosAntigos - 1; i >= 1; i--) {
+            Path origem = girado(i);
+            if (Files.exists(origem)) {
+                Files.move(origem, girado(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (arquivosAntigos > 0) {
+            Files.move(arquivo, girado(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(arquivo);
+        }
+        abrir();
+    }
+
+    private Path girado(int numero) {
+        return arquivo.resolveSibling(arquivo.getFileName() + "." + numero);
+    }
+}
@@ -0,0 +1,26 @@
+package ifsc.joe.registro;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Escreve os registros no console, como o jogo sempre fez.
+ */
+public class DestinoConsole implements DestinoRegistro {
+
+    private final PrintStream saida;
+
+    public DestinoConsole() {
+        this(System.out);
+    }
+
+    public DestinoConsole(PrintStream saida) {
+        this.saida = saida;
+    }
+
+    @Override
+    public void escrever(List<String> registros) {
+        // Um único println por lote, para não intercalar com outras threads
+        saida.println(String.join(System.lineSeparator(), registros));
+    }
+}
@@ -0,0 +1,24 @@
+package ifsc.joe.registro;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Para onde a thread de escrita do {@link RegistroCombate} envia os registros.
+ * Os métodos são chamados sempre pela mesma thread.
+ */
+public interface DestinoRegistro {
+
+    /**
+     * Escreve um lote de registros, na ordem, um por linha.
+     *
+     * @param registros mensagens já montadas
+     */
+    void escrever(List<String> registros) throws IOException;
+
+    /**
+     * Libera os recursos do destino. Chamado ao encerrar o jogo.
+     */
+    default void fechar() throws IOException {
+    }
+}
@@ -0,0 +1,242 @@
+package ifsc.joe.registro;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.NivelRegistro;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Registro de combate com níveis e escrita em segundo plano.
+ * <p>
+ * Quem registra só enfileira a mensagem; uma thread própria a retira em lotes
+ * e a envia ao {@link DestinoRegistro} (console ou arquivo rotativo). Abaixo do
+ * nível configurado o custo é uma comparação: com {@link #isHabilitado} ou com
+ * a versão que recebe um {@link Supplier}, a mensagem nem é montada. Com a fila
+ * cheia o registro é descartado e contado, em vez de bloquear quem registra.
+ * <p>
+ * Configurado por -Djoe.log.nivel (DETALHE, INFO ou DESLIGADO), -Djoe.log.destino
+ * (console ou arquivo) e -Djoe.log.arquivo.
+ */
+public class RegistroCombate {
+
+    private static RegistroCombate instancia;
+    // Marca o fim da fila no encerramento; comparada por identidade
+    private static final String FIM = new String("fim do registro");
+    private static final long ESPERA_ENCERRAMENTO_MS = 2_000;
+    private static final NivelRegistro NIVEL_PADRAO = NivelRegistro.DETALHE;
+
+    private final BlockingQueue<String> fila;
+    private final DestinoRegistro destino;
+    private final Thread escritor;
+    private final AtomicLong enfileirados;
+    private final AtomicLong descartados;
+    private volatile long escritos;
+    private volatile NivelRegistro nivel;
+
+    private RegistroCombate(NivelRegistro nivel, DestinoRegistro destino) {
+        this.nivel = nivel;
+        this.destino = destino;
+        this.fila = new ArrayBlockingQueue<>(Constantes.Registro.CAPACIDADE_FILA);
+        this.enfileirados = new AtomicLong();
+        this.descartados = new AtomicLong();
+
+        if (nivel != NivelRegistro.DESLIGADO) {
+            this.escritor = new Thread(this::escreverLotes, "registro-combate");
+            escritor.setDaemon(true);
+            escritor.start();
+            // Garante que os registros pendentes cheguem ao destino no System.exit
+            Runtime.getRuntime().addShutdownHook(new Thread(this::encerrar, "registro-combate-fim"));
+        } else {
+            this.escritor = null;
+        }
+    }
+
+    public static synchronized RegistroCombate getInstancia() {
+        if (instancia == null) {
+            instancia = criarPelasPropriedades();
+        }
+        return instancia;
+    }
+
+    /**
+     * Verifica se registros do nível informado serão escritos.
+     */
+    public boolean isHabilitado(NivelRegistro nivelRegistro) {
+        return nivelRegistro.compareTo(nivel) >= 0 && nivelRegistro != NivelRegistro.DESLIGADO;
+    }
+
+    /**
+     * Enfileira uma mensagem já montada.
+     */
+    public void registrar(NivelRegistro nivelRegistro, String mensagem) {
+        if (isHabilitado(nivelRegistro)) {
+            enfileirar(mensagem);
+        }
+    }
+
+    /**
+     * Enfileira uma mensagem montada apenas se o nível estiver habilitado.
+     */
+    public void registrar(NivelRegistro nivelRegistro, Supplier<String> mensagem) {
+        if (isHabilitado(nivelRegistro)) {
+            enfileirar(mensagem.get());
+        }
+    }
+
+    /**
+     * Aguarda até que os registros já enfileirados tenham sido escritos.
+     * Retorna antes se a thread de escrita tiver terminado, pois o que
+     * restou na fila não será mais escrito.
+     */
+    public void descarregar() {
+        long alvo = enfileirados.get();
+        while (escritos < alvo && escritor != null && escritor.isAlive()) {
+            LockSupport.parkNanos(Constantes.Registro.ESPERA_DESCARGA_NANOS);
+        }
+    }
+
+    /**
+     * Retorna quantos registros foram descartados por fila cheia.
+     */
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    public NivelRegistro getNivel() {
+        return nivel;
+    }
+
+    /**
+     * Altera o nível mínimo dos registros. Registros abaixo dele passam a ser ignorados
+     * (não é possível religar um registro criado como DESLIGADO).
+     */
+    public void setNivel(NivelRegistro nivel) {
+        if (this.nivel != NivelRegistro.DESLIGADO) {
+            this.nivel = nivel;
+        }
+    }
+
+    private void enfileirar(String mensagem) {
+        if (fila.offer(mensagem)) {
+            enfileirados.incrementAndGet();
+        } else {
+            descartados.incrementAndGet();
+        }
+    }
+
+    /**
+     * Laço da thread de escrita: espera o primeiro registro e leva junto os
+     * que já estiverem na fila, até {@link Constantes.Registro#TAMANHO_LOTE}.
+     * Ao encontrar a marca de fim, escreve tudo o que restou e fecha o destino:
+     * só esta thread usa o destino, então escrita, rotação e fechamento nunca
+     * se sobrepõem.
+     */
+    private void escreverLotes() {
+        List<String> lote = new ArrayList<>(Constantes.Registro.TAMANHO_LOTE);
+        boolean fim = false;
+        while (!fim) {
+            try {
+                lote.add(fila.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            fila.drainTo(lote, Constantes.Registro.TAMANHO_LOTE - 1);
+
+            int posicaoFim = procurarFim(lote);
+            if (posicaoFim >= 0) {
+                // Registros enfileirados durante o encerramento também são escritos
+                lote.remove(posicaoFim);
+                fila.drainTo(lote);
+                fim = true;
+            }
+            escrever(lote);
+            lote.clear();
+        }
+
+        try {
+            destino.fechar();
+        } catch (IOException e) {
+            System.err.println("[REGISTRO] Erro ao fechar o registro de combate: " + e.getMessage());
+        }
+    }
+
+    private void escrever(List<String> lote) {
+        if (lote.isEmpty())
+            return;
+        try {
+            destino.escrever(lote);
+        } catch (IOException e) {
+            System.err.println("[REGISTRO] Erro ao escrever o registro de combate: " + e.getMessage());
+        }
+        escritos += lote.size();
+    }
+
+    private static int procurarFim(List<String> lote) {
+        for (int i = 0; i < lote.size(); i++) {
+            if (lote.get(i) == FIM) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gancho de encerramento da JVM: pede à thread de escrita que termine e
+     * espera por ela, sem esperar indefinidamente se o destino travar.
+     */
+    private void encerrar() {
+        try {
+            if (fila.offer(FIM, ESPERA_ENCERRAMENTO_MS, TimeUnit.MILLISECONDS)) {
+                escritor.join(ESPERA_ENCERRAMENTO_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lê o nível de -Djoe.log.nivel; um valor desconhecido mantém o padrão.
+     */
+    private static NivelRegistro lerNivel() {
+        String valor = System.getProperty(Constantes.Registro.PROPRIEDADE_NIVEL, NIVEL_PADRAO.name());
+        try {
+            return NivelRegistro.valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("[REGISTRO] Nível desconhecido \"" + valor + "\", usando " + NIVEL_PADRAO);
+            return NIVEL_PADRAO;
+        }
+    }
+
+    private static RegistroCombate criarPelasPropriedades() {
+        NivelRegistro nivel = lerNivel();
+        if (nivel == NivelRegistro.DESLIGADO) {
+            return new RegistroCombate(nivel, new DestinoConsole());
+        }
+
+        String destino = System.getProperty(Constantes.Registro.PROPRIEDADE_DESTINO, "console");
+        if (!Constantes.Registro.DESTINO_ARQUIVO.equalsIgnoreCase(destino)) {
+            return new RegistroCombate(nivel, new DestinoConsole());
+        }
+
+        Path arquivo = Path.of(System.getProperty(Constantes.Registro.PROPRIEDADE_ARQUIVO,
+                Constantes.Registro.ARQUIVO_PADRAO));
+        try {
+            return new RegistroCombate(nivel, new DestinoArquivoRotativo(arquivo,
+                    Constantes.Registro.TAMANHO_MAXIMO_ARQUIVO, Constantes.Registro.ARQUIVOS_ANTIGOS));
+        } catch (IOException e) {
+            System.err.println("[REGISTRO] Não foi possível abrir " + arquivo + ", usando o console: "
+                    + e.getMessage());
+            return new RegistroCombate(nivel, new DestinoConsole());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package ifsc.joe.simulacao;
+
+import ifsc.joe.audio.AudioSilencioso;
+import ifsc.joe.config.Constantes;
+import ifsc.joe.domain.ArmazemEntidades;
+import ifsc.joe.enums.Direcao;
+import ifsc.joe.enums.NivelRegistro;
+import ifsc.joe.enums.TipoPersonagem;
+import ifsc.joe.eventos.ConsumidorAudio;
+import ifsc.joe.eventos.ConsumidorLog;
+import ifsc.joe.eventos.EstatisticasEventos;
+import ifsc.joe.registro.RegistroCombate;
+import ifsc.joe.utils.GerenciadorAudio;
+
+import java.util.Random;
+import java.util.function.LongConsumer;
+
+/**
+ * Executa o {@link MotorSimulacao} sem interface, na thread atual.
+ * Os passos podem seguir uma taxa fixa ou rodar o mais rápido possível, o que
+ * permite simular partidas inteiras em segundo plano.
+ * <p>
+ * Pode ser executado diretamente: monta um mundo com semente fixa e roda uma
+ * partida roteirizada (movimentos, ataques, montaria e coleta sorteados com a
+ * mesma semente), imprimindo o desempenho e um resumo do estado final. As
+ * opções são lidas das propriedades {@code joe.simulacao.*}
+ * (ver {@link Constantes.Simulacao}):
+ * <pre>
+ * ./gradlew simularHeadless -Djoe.simulacao.passos=10000 -Djoe.simulacao.personagens=500
+ * </pre>
+ */
+public class ExecutorSimulacao {
+
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+    private static final Direcao[] DIRECOES = Direcao.values();
+    private static final TipoPersonagem[] TIPOS = TipoPersonagem.values();
+
+    private final MotorSimulacao motor;
+    private final int passosPorSegundo;
+
+    /**
+     * @param motor            motor a ser executado
+     * @param passosPorSegundo taxa de passos, ou 0 para o mais rápido possível
+     */
+    public ExecutorSimulacao(MotorSimulacao motor, int passosPorSegundo) {
+        this.motor = motor;
+        this.passosPorSegundo = passosPorSegundo;
+    }
+
+    /**
+     * Executa a quantidade de passos informada.
+     *
+     * @param passos  quantidade de passos
+     * @param roteiro chamado antes de cada passo com o número do passo, para enfileirar comandos
+     * @return duração total, em nanossegundos
+     */
+    public long executar(long passos, LongConsumer roteiro) {
+        long periodo = passosPorSegundo > 0 ? NANOS_POR_SEGUNDO / passosPorSegundo : 0;
+        long inicio = System.nanoTime();
+        long proximo = inicio;
+
+        for (long i = 0; i < passos; i++) {
+            roteiro.accept(i);
+            motor.avancar();
+
+            if (periodo > 0) {
+                proximo += periodo;
+                if (!aguardar(proximo - System.nanoTime()))
+                    break;
+            }
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    /**
+     * Dorme pelo tempo restante até o próximo passo, se houver.
+     *
+     * @return false se a thread foi interrompida
+     */
+    private boolean aguardar(long nanos) {
+        if (nanos <= 0)
+            return true;
+
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Calcula um resumo do estado dos personagens (tipo, posição, vida e
+     * opacidade). Duas execuções com a mesma semente devem produzir o mesmo valor.
+     */
+    public static int calcularResumoEstado(MotorSimulacao motor) {
+        ArmazemEntidades armazem = motor.getArmazem();
+        int resumo = 1;
+        for (int i = 0; i < armazem.getQuantidade(); i++) {
+            resumo = 31 * resumo + armazem.getTipo(i).ordinal();
+            resumo = 31 * resumo + armazem.getPosX(i);
+            resumo = 31 * resumo + armazem.getPosY(i);
+            resumo = 31 * resumo + armazem.getVida(i);
+            resumo = 31 * resumo + Float.floatToIntBits(armazem.getOpacidade(i));
+        }
+        return resumo;
+    }
+
+    /**
+     * Cria um motor com a semente e um mundo povoado por {@link #povoarMundo}.
+     *
+     * @param rnd                gerador do motor e das posições
+     * @param personagensPorTipo quantidade de aldeões, arqueiros e cavaleiros
+     * @return motor com os personagens já criados
+     */
+    public static MotorSimulacao criarMundo(Random rnd, int personagensPorTipo) {
+        MotorSimulacao motor = new MotorSimulacao(rnd);
+        povoarMundo(motor, rnd, personagensPorTipo);
+        return motor;
+    }
+
+    /**
+     * Cria os personagens em posições sorteadas dentro das bordas e avança um
+     * passo para aplicar as criações. Consumidores que devem ver os eventos de
+     * criação precisam ser registrados antes.
+     *
+     * @param motor              motor a ser povoado
+     * @param rnd                gerador das posições
+     * @param personagensPorTipo quantidade de aldeões, arqueiros e cavaleiros
+     */
+    public static void povoarMundo(MotorSimulacao motor, Random rnd, int personagensPorTipo) {
+        int padding = Constantes.Interface.PADDING_BORDAS;
+        int largura = Constantes.Mundo.LARGURA - padding * 2;
+        int altura = Constantes.Mundo.ALTURA - padding * 2;
+        for (int i = 0; i < personagensPorTipo; i++) {
+            for (TipoPersonagem tipo : TIPOS) {
+                motor.criarPersonagem(tipo, rnd.nextInt(largura) + padding, rnd.nextInt(altura) + padding);
+            }
+        }
+        motor.avancar();
+    }
+
+    /**
+     * Roteiro da partida padrão: movimentos, coleta, ataques e montaria em
+     * intervalos fixos, com tipo e direção sorteados pelo gerador.
+     *
+     * @param motor motor que recebe os comandos
+     * @param rnd   gerador dos sorteios; com a mesma semente a partida se repete
+     * @return roteiro para {@link #executar(long, LongConsumer)}
+     */
+    public static LongConsumer roteiroPadrao(MotorSimulacao motor, Random rnd) {
+        return passo -> {
+            if (passo % 10 == 0) {
+                // Um tipo sorteado (ou todos) anda em uma direção sorteada
+                int tipo = rnd.nextInt(TIPOS.length + 1);
+                motor.movimentar(tipo == TIPOS.length ? null : TIPOS[tipo], DIRECOES[rnd.nextInt(DIRECOES.length)]);
+            }
+            if (passo % 25 == 0) {
+                motor.coletarRecursosProximos();
+            }
+            if (passo % 40 == 0) {
+                motor.atacar(null);
+            }
+            if (passo % 100 == 0) {
+                motor.alternarMontariaCavaleiros();
+            }
+        };
+    }
+
+    public static void main(String[] args) {
+        // Sem janela: dos sprites só o tamanho é lido, do cabeçalho dos PNGs
+        System.setProperty("java.awt.headless", "true");
+        // Sem som, a menos que -Djoe.audio peça outro destino (ex: gravacao)
+        GerenciadorAudio audio = GerenciadorAudio.getInstancia();
+        if (System.getProperty(Constantes.Audio.PROPRIEDADE_DESTINO) == null) {
+            audio.setDestino(new AudioSilencioso());
+        }
+
+        String prefixo = Constantes.Simulacao.PREFIXO_PROPRIEDADES;
+        int passos = Integer.getInteger(prefixo + "passos", Constantes.Simulacao.PASSOS_PADRAO);
+        int passosPorSegundo = Integer.getInteger(prefixo + "passosPorSegundo",
+                Constantes.Simulacao.PASSOS_POR_SEGUNDO_PADRAO);
+        int personagens = Integer.getInteger(prefixo + "personagens",
+                Constantes.Simulacao.PERSONAGENS_POR_TIPO_PADRAO);
+        long semente = Long.getLong(prefixo + "semente", Constantes.Simulacao.SEMENTE_PADRAO);
+
+        Random rnd = new Random(semente);
+        MotorSimulacao motor = new MotorSimulacao(rnd);
+        EstatisticasEventos estatisticas = new EstatisticasEventos();
+        RegistroCombate registro = RegistroCombate.getInstancia();
+        if (registro.isHabilitado(NivelRegistro.INFO)) {
+            motor.getEventos().registrar("log", new ConsumidorLog(registro));
+        }
+        motor.getEventos().registrar("estatisticas", estatisticas);
+        if (!(audio.getDestino() instanceof AudioSilencioso)) {
+            motor.getEventos().registrar("audio", new ConsumidorAudio());
+        }
+        povoarMundo(motor, rnd, personagens);
+
+        long duracao = new ExecutorSimulacao(motor, passosPorSegundo).executar(passos, roteiroPadrao(motor, rnd));
+        motor.getEventos().aguardarConsumo();
+        registro.descarregar();
+
+        System.out.printf("[SIMULACAO] %,d passos em %.1fms (%,.0f passos/s, taxa %s)%n",
+                passos, duracao / 1_000_000.0, passos * (double) NANOS_POR_SEGUNDO / duracao,
+                passosPorSegundo > 0 ? passosPorSegundo + "/s" : "livre");
+        System.out.println("[SIMULACAO] Personagens: " + motor.getQuantidadePersonagens()
+                + ", baixas: " + motor.getTotalBaixas()
+                + ", estoque (C/O/M): " + motor.getEstoqueComida() + "/" + motor.getEstoqueOuro()
+                + "/" + motor.getEstoqueMadeira());
+        System.out.println("[SIMULACAO] Eventos: " + estatisticas.gerarRelatorio());
+        System.out.println("[SIMULACAO] Eventos publicados: " + motor.getEventos().getPublicados()
+                + ", esperas do motor por anel cheio: " + motor.getEventos().getEsperasProdutor()
+                + ", registros descartados: " + registro.getDescartados());
+        System.out.println("[SIMULACAO] " + audio.gerarRelatorio());
+        System.out.printf("[SIMULACAO] Resumo do estado final: %08x%n", calcularResumoEstado(motor));
+        System.exit(0);
+    }
+}
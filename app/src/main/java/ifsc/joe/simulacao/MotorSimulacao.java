@@ -0,0 +1,621 @@
+package ifsc.joe.simulacao;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.domain.ArmazemEntidades;
+import ifsc.joe.domain.Personagem;
+import ifsc.joe.domain.Recurso;
+import ifsc.joe.domain.ResolvedorCombate;
+import ifsc.joe.domain.impl.Aldeao;
+import ifsc.joe.domain.impl.Arqueiro;
+import ifsc.joe.domain.impl.Cavaleiro;
+import ifsc.joe.enums.Direcao;
+import ifsc.joe.enums.TipoPersonagem;
+import ifsc.joe.enums.TipoRecurso;
+import ifsc.joe.eventos.BarramentoEventos;
+import ifsc.joe.interfaces.Coletador;
+import ifsc.joe.utils.GeradorRecursos;
+import ifsc.joe.utils.GradeEspacial;
+
+import java.awt.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Núcleo da simulação: dono do estado do mundo (personagens, recursos,
+ * placar e estoque), avançado em passos fixos por {@link #avancar()}.
+ * <p>
+ * Não precisa de janela nem de imagens decodificadas: dos sprites de
+ * personagens e recursos só usa o tamanho, lido do cabeçalho dos PNGs. Ainda
+ * usa classes de valor do AWT ({@code Rectangle}, {@code Color} das
+ * constantes), então roda com -Djava.awt.headless=true, mas não sem o módulo
+ * java.desktop.
+ * <p>
+ * Comandos (criar, mover, atacar, montar, coletar) podem ser enfileirados de
+ * qualquer thread e são aplicados, na ordem de chegada, no início do próximo
+ * passo; em seguida rodam os sistemas contínuos (movimento das teclas
+ * seguradas e fade-out dos mortos). O estado em si não é protegido:
+ * {@link #avancar()} e as consultas devem ser feitas pela mesma thread
+ * (a EDT no jogo, a thread principal no {@link ExecutorSimulacao}).
+ * <p>
+ * As mudanças visíveis são informadas a um {@link OuvinteSimulacao}, que a
+ * {@code Tela} usa para marcar regiões sujas. Criação, dano, morte, coleta e
+ * montaria são publicados no {@link BarramentoEventos}, de onde som, console,
+ * placar e estatísticas os consomem em outras threads.
+ */
+public class MotorSimulacao {
+
+    private static final TipoPersonagem[] TIPOS = TipoPersonagem.values();
+    private static final long DISTANCIA_COLETA_AO_QUADRADO =
+            (long) Constantes.Recursos.DISTANCIA_COLETA * Constantes.Recursos.DISTANCIA_COLETA;
+
+    private final ArmazemEntidades armazem;
+    private final Set<Recurso> recursos;
+    private final GradeEspacial<Recurso> gradeRecursos; // Recursos indexados pelo centro
+    private final GradeEspacial<Personagem> gradePersonagens;
+    private final Queue<Runnable> comandos;
+    private final List<OuvinteSimulacao> ouvintes;
+    private final BarramentoEventos eventos;
+
+    // Personagens em fade-out, na ordem em que morreram: o passo de fade-out
+    // percorre apenas esta fila, não o armazém inteiro
+    private final Deque<Personagem> morrendo;
+
+    // Combate em duas fases: acumuladores por personagem, indexados pelo armazém
+    private final ResolvedorCombate resolvedorCombate;
+    private boolean[] atacantes;
+    private int[] danosAcumulados;
+    private int[] golpesAcumulados;
+
+    // Contadores de baixas por tipo
+    private int baixasAldeoes;
+    private int baixasArqueiros;
+    private int baixasCavaleiros;
+
+    // Estoque de recursos
+    private int estoqueComida;
+    private int estoqueOuro;
+    private int estoqueMadeira;
+
+    // Movimento contínuo enquanto o jogador segura as teclas de direção (-1, 0 ou 1 por eixo)
+    private TipoPersonagem filtroMovimentoContinuo;
+    private int direcaoContinuaX;
+    private int direcaoContinuaY;
+
+    private long passo;
+    private boolean alterado;
+
+    /**
+     * Cria o mundo com recursos iniciais gerados pelo gerador informado.
+     * A quantidade por tipo pode ser alterada com -Djoe.recursosPorTipo=N.
+     *
+     * @param rnd gerador usado para posicionar os recursos iniciais
+     */
+    public MotorSimulacao(Random rnd) {
+        this.armazem = new ArmazemEntidades();
+        this.recursos = new HashSet<>();
+        this.gradeRecursos = new GradeEspacial<>(Constantes.Mundo.LARGURA, Constantes.Mundo.ALTURA,
+                Constantes.Recursos.TAMANHO_CELULA_GRADE);
+        this.gradePersonagens = new GradeEspacial<>(Constantes.Mundo.LARGURA, Constantes.Mundo.ALTURA,
+                Constantes.Grade.TAMANHO_CELULA);
+        this.comandos = new ConcurrentLinkedQueue<>();
+        this.ouvintes = new ArrayList<>();
+        this.eventos = new BarramentoEventos();
+        this.morrendo = new ArrayDeque<>();
+        this.resolvedorCombate = new ResolvedorCombate(armazem, gradePersonagens, Constantes.Grade.TAMANHO_CELULA,
+                !Boolean.getBoolean(Constantes.Combate.PROPRIEDADE_COMBATE_SERIAL));
+        this.atacantes = new boolean[0];
+        this.danosAcumulados = new int[0];
+        this.golpesAcumulados = new int[0];
+
+        int quantidadePorTipo = Integer.getInteger(Constantes.Recursos.PROPRIEDADE_QUANTIDADE_INICIAL,
+                Constantes.Recursos.QUANTIDADE_INICIAL_POR_TIPO);
+        for (Recurso recurso : GeradorRecursos.gerar(quantidadePorTipo, rnd)) {
+            incluirRecurso(recurso);
+        }
+    }
+
+    /**
+     * Registra quem recebe as mudanças visíveis.
+     */
+    public void adicionarOuvinte(OuvinteSimulacao ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    /**
+     * Cria um personagem do tipo informado nas coordenadas X e Y.
+     */
+    public void criarPersonagem(TipoPersonagem tipo, int x, int y) {
+        comandos.add(() -> executarCriacao(tipo, x, y));
+    }
+
+    /**
+     * Move os personagens do tipo informado, cada um conforme sua velocidade.
+     *
+     * @param filtro  tipo a movimentar, ou null para todos
+     * @param direcao direção do movimento
+     */
+    public void movimentar(TipoPersonagem filtro, Direcao direcao) {
+        comandos.add(() -> executarMovimento(filtro, direcao));
+    }
+
+    /**
+     * Define o movimento contínuo, aplicado a cada passo até ser trocado:
+     * cada personagem anda {@link Constantes.Movimento#PIXELS_POR_SEGUNDO_POR_VELOCIDADE}
+     * pixels por segundo para cada ponto de velocidade. Direção (0, 0) para.
+     *
+     * @param filtro    tipo a movimentar, ou null para todos
+     * @param direcaoX  -1 (esquerda), 0 ou 1 (direita)
+     * @param direcaoY  -1 (cima), 0 ou 1 (baixo)
+     */
+    public void definirMovimentoContinuo(TipoPersonagem filtro, int direcaoX, int direcaoY) {
+        comandos.add(() -> {
+            filtroMovimentoContinuo = filtro;
+            direcaoContinuaX = Integer.signum(direcaoX);
+            direcaoContinuaY = Integer.signum(direcaoY);
+        });
+    }
+
+    /**
+     * Alterna o estado de ataque dos personagens do tipo informado e aplica o
+     * dano aos alvos no alcance.
+     *
+     * @param filtro tipo dos atacantes, ou null para todos os que têm ataque
+     */
+    public void atacar(TipoPersonagem filtro) {
+        comandos.add(() -> executarAtaque(filtro));
+    }
+
+    /**
+     * Alterna o estado de montaria de todos os cavaleiros.
+     */
+    public void alternarMontariaCavaleiros() {
+        comandos.add(this::executarAlternanciaMontaria);
+    }
+
+    /**
+     * Faz os aldeões coletarem os recursos próximos.
+     */
+    public void coletarRecursosProximos() {
+        comandos.add(this::executarColeta);
+    }
+
+    /**
+     * Adiciona um recurso ao mapa.
+     */
+    public void adicionarRecurso(Recurso recurso) {
+        comandos.add(() -> {
+            incluirRecurso(recurso);
+            notificarRegiao(recurso.getLimites());
+            for (OuvinteSimulacao ouvinte : ouvintes) {
+                ouvinte.recursosAlterados();
+            }
+        });
+    }
+
+    /**
+     * Avança a simulação em um passo fixo: aplica os comandos pendentes, o
+     * movimento contínuo e o fade-out dos personagens mortos.
+     *
+     * @return true se o estado do mundo mudou neste passo
+     */
+    public boolean avancar() {
+        alterado = false;
+        passo++;
+        eventos.setPasso(passo);
+        armazem.fixarPosicoesAnteriores();
+
+        Runnable comando;
+        while ((comando = comandos.poll()) != null) {
+            comando.run();
+            alterado = true;
+        }
+
+        passoMovimentoContinuo();
+        passoFadeOut();
+        return alterado;
+    }
+
+    /**
+     * Retorna a quantidade de personagens em fade-out.
+     */
+    public int getQuantidadeMorrendo() {
+        return morrendo.size();
+    }
+
+    /**
+     * Retorna quantos passos já foram executados.
+     */
+    public long getPasso() {
+        return passo;
+    }
+
+    private void executarCriacao(TipoPersonagem tipo, int x, int y) {
+        Personagem personagem = switch (tipo) {
+            case ALDEAO -> new Aldeao(armazem, x, y);
+            case ARQUEIRO -> new Arqueiro(armazem, x, y);
+            case CAVALEIRO -> new Cavaleiro(armazem, x, y);
+        };
+        int i = personagem.getIndice();
+        indexar(i);
+        notificar(i);
+        eventos.publicarCriacao(tipo, armazem.getCentroX(i), armazem.getCentroY(i));
+    }
+
+    /**
+     * Com filtro, percorre apenas a lista de índices do tipo no armazém.
+     */
+    private void executarMovimento(TipoPersonagem filtro, Direcao direcao) {
+        if (filtro == null) {
+            for (int i = 0; i < armazem.getQuantidade(); i++) {
+                moverPersonagem(i, direcao);
+            }
+            return;
+        }
+
+        for (int k = 0; k < armazem.getQuantidade(filtro); k++) {
+            moverPersonagem(armazem.getIndice(filtro, k), direcao);
+        }
+    }
+
+    /**
+     * Move os personagens do filtro conforme a direção contínua. O deslocamento
+     * de cada passo é a diferença entre as distâncias acumuladas no passo atual
+     * e no anterior, então a velocidade média é exata mesmo sem frações de pixel.
+     */
+    private void passoMovimentoContinuo() {
+        if (direcaoContinuaX == 0 && direcaoContinuaY == 0)
+            return;
+
+        alterado = true;
+        TipoPersonagem filtro = filtroMovimentoContinuo;
+        if (filtro == null) {
+            for (int i = 0; i < armazem.getQuantidade(); i++) {
+                moverContinuo(i);
+            }
+            return;
+        }
+
+        for (int k = 0; k < armazem.getQuantidade(filtro); k++) {
+            moverContinuo(armazem.getIndice(filtro, k));
+        }
+    }
+
+    private void moverContinuo(int i) {
+        long pixelsPorSegundo = (long) armazem.getVelocidade(i)
+                * Constantes.Movimento.PIXELS_POR_SEGUNDO_POR_VELOCIDADE;
+        if (direcaoContinuaX != 0 && direcaoContinuaY != 0) {
+            pixelsPorSegundo = Math.round(pixelsPorSegundo * Constantes.Movimento.FATOR_DIAGONAL);
+        }
+        int ticks = Constantes.Geral.TICKS_POR_SEGUNDO;
+        int deslocamento = (int) (pixelsPorSegundo * passo / ticks - pixelsPorSegundo * (passo - 1) / ticks);
+
+        Rectangle antes = ouvintes.isEmpty() ? null : armazem.getLimites(i);
+        armazem.deslocar(i, direcaoContinuaX * deslocamento, direcaoContinuaY * deslocamento,
+                Constantes.Mundo.LARGURA, Constantes.Mundo.ALTURA);
+        indexar(i);
+        notificarUniao(antes, i);
+    }
+
+    private void moverPersonagem(int i, Direcao direcao) {
+        Rectangle antes = ouvintes.isEmpty() ? null : armazem.getLimites(i);
+        armazem.mover(i, direcao, Constantes.Mundo.LARGURA, Constantes.Mundo.ALTURA);
+        indexar(i);
+        notificarUniao(antes, i);
+    }
+
+    /**
+     * Resolve o ataque em duas fases: primeiro o {@link ResolvedorCombate}
+     * soma, possivelmente em paralelo, o dano que cada alvo recebe; depois os
+     * totais são aplicados em ordem de índice. Assim todos os atacantes
+     * enxergam o mesmo estado e o resultado não depende da ordem.
+     * Os atacantes são marcados percorrendo só as listas dos tipos envolvidos.
+     * Ninguém é removido do armazém durante o ataque (os mortos entram em fade-out).
+     */
+    private void executarAtaque(TipoPersonagem filtro) {
+        int quantidade = armazem.getQuantidade();
+        prepararAcumuladores(quantidade);
+        Arrays.fill(atacantes, 0, quantidade, false);
+
+        boolean algumAtacante = false;
+        for (TipoPersonagem tipo : TIPOS) {
+            boolean ataca = filtro == null ? tipo.getAtaque() > 0 : tipo == filtro;
+            if (!ataca)
+                continue;
+
+            for (int k = 0; k < armazem.getQuantidade(tipo); k++) {
+                int i = armazem.getIndice(tipo, k);
+                atacantes[i] = true;
+                armazem.getPersonagem(i).atacar(); // Troca o sprite
+                eventos.publicarAtaque(tipo, armazem.getCentroX(i), armazem.getCentroY(i), armazem.isAtacando(i));
+                indexar(i);
+                notificar(i);
+                algumAtacante = true;
+            }
+        }
+
+        if (algumAtacante) {
+            resolvedorCombate.acumularDanos(atacantes, danosAcumulados, golpesAcumulados);
+            aplicarDanosAcumulados(quantidade);
+        }
+    }
+
+    /**
+     * Garante que os acumuladores do combate comportam todos os personagens.
+     */
+    private void prepararAcumuladores(int quantidade) {
+        if (atacantes.length < quantidade) {
+            atacantes = new boolean[quantidade];
+            danosAcumulados = new int[quantidade];
+            golpesAcumulados = new int[quantidade];
+        }
+    }
+
+    /**
+     * Segunda fase do combate: aplica o dano total de cada alvo atingido,
+     * publicando um único evento de dano por alvo. Quem morre neste ataque
+     * entra na fila de fade-out.
+     *
+     * @param quantidade quantidade de personagens no momento do ataque
+     */
+    private void aplicarDanosAcumulados(int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            int golpes = golpesAcumulados[i];
+            if (golpes == 0)
+                continue;
+
+            Personagem alvo = armazem.getPersonagem(i);
+            int dano = danosAcumulados[i];
+            boolean vivo = !armazem.isMorrendo(i);
+            alvo.sofrerDano(dano);
+            boolean morreu = vivo && armazem.isMorrendo(i);
+            if (morreu) {
+                morrendo.add(alvo);
+            }
+            notificar(i);
+            eventos.publicarDano(armazem.getTipo(i), armazem.getCentroX(i), armazem.getCentroY(i), dano, golpes,
+                    armazem.getVida(i), morreu);
+        }
+    }
+
+    private void executarAlternanciaMontaria() {
+        for (int k = 0; k < armazem.getQuantidade(TipoPersonagem.CAVALEIRO); k++) {
+            int i = armazem.getIndice(TipoPersonagem.CAVALEIRO, k);
+            Rectangle antes = ouvintes.isEmpty() ? null : armazem.getLimites(i);
+            Cavaleiro cavaleiro = (Cavaleiro) armazem.getPersonagem(i);
+            cavaleiro.alternarMontado();
+            eventos.publicarMontaria(armazem.getCentroX(i), armazem.getCentroY(i), cavaleiro.isMontado());
+            indexar(i);
+            notificarUniao(antes, i);
+        }
+    }
+
+    /**
+     * Cada aldeão consulta, na grade de recursos, os recursos dentro da
+     * distância de coleta (comparando distâncias ao quadrado). Um recurso ao
+     * alcance de vários aldeões fica com o primeiro da lista de coletores.
+     * As coletas são aplicadas juntas no final: o estoque é somado, a camada
+     * estática invalidada e um único evento de coleta publicado.
+     */
+    private void executarColeta() {
+        List<Recurso> coletados = new ArrayList<>();
+        Set<Recurso> reservados = Collections.newSetFromMap(new IdentityHashMap<>());
+        int distancia = Constantes.Recursos.DISTANCIA_COLETA;
+
+        // Só as listas dos tipos coletores são percorridas
+        for (TipoPersonagem tipo : TIPOS) {
+            if (!tipo.isColetador())
+                continue;
+
+            for (int k = 0; k < armazem.getQuantidade(tipo); k++) {
+                int i = armazem.getIndice(tipo, k);
+                Coletador coletador = (Coletador) armazem.getPersonagem(i);
+                int centroX = armazem.getCentroX(i);
+                int centroY = armazem.getCentroY(i);
+                gradeRecursos.consultar(centroX - distancia, centroY - distancia, centroX + distancia,
+                        centroY + distancia, r -> {
+                            long dx = centroX - r.getCentroX();
+                            long dy = centroY - r.getCentroY();
+                            if (dx * dx + dy * dy <= DISTANCIA_COLETA_AO_QUADRADO && reservados.add(r)) {
+                                coletador.coletar(r);
+                                coletados.add(r);
+                            }
+                        });
+            }
+        }
+
+        if (!coletados.isEmpty()) {
+            aplicarColetas(coletados);
+        }
+    }
+
+    /**
+     * Remove os recursos coletados do mapa e soma seus valores ao estoque, em lote.
+     */
+    private void aplicarColetas(List<Recurso> coletados) {
+        int[] totais = new int[TipoRecurso.values().length];
+        for (Recurso r : coletados) {
+            recursos.remove(r);
+            gradeRecursos.remover(r);
+            totais[r.getTipo().ordinal()] += r.getQuantidade();
+            notificarRegiao(r.getLimites());
+        }
+
+        for (TipoRecurso tipo : TipoRecurso.values()) {
+            adicionarEstoque(tipo, totais[tipo.ordinal()]);
+        }
+        for (OuvinteSimulacao ouvinte : ouvintes) {
+            ouvinte.recursosAlterados();
+        }
+        eventos.publicarColeta(totais, coletados.size());
+    }
+
+    /**
+     * Executa um passo do efeito de fade-out: reduz a opacidade dos personagens
+     * da fila de mortos e remove os que desapareceram completamente.
+     * Os índices são lidos das visões a cada passo, já que a remoção de um
+     * personagem move o último do armazém para o seu lugar.
+     */
+    private void passoFadeOut() {
+        if (morrendo.isEmpty())
+            return;
+
+        alterado = true;
+        Iterator<Personagem> iterator = morrendo.iterator();
+        while (iterator.hasNext()) {
+            Personagem p = iterator.next();
+            int i = p.getIndice();
+            armazem.reduzirOpacidade(i, Constantes.Interface.REDUCAO_OPACIDADE);
+            notificar(i);
+
+            // Remove personagens que desapareceram completamente e atualiza contadores
+            if (armazem.desapareceu(i)) {
+                iterator.remove();
+                TipoPersonagem tipo = armazem.getTipo(i);
+                contabilizarBaixa(tipo);
+                eventos.publicarMorte(tipo, armazem.getCentroX(i), armazem.getCentroY(i));
+                gradePersonagens.remover(p);
+                armazem.remover(i);
+            }
+        }
+    }
+
+    /**
+     * Atualiza a célula do personagem na grade espacial.
+     * Deve ser chamado sempre que o centro do personagem puder ter mudado
+     * (movimento ou troca de sprite).
+     */
+    private void indexar(int indice) {
+        gradePersonagens.atualizar(armazem.getPersonagem(indice), armazem.getCentroX(indice),
+                armazem.getCentroY(indice));
+    }
+
+    private void notificar(int indice) {
+        if (!ouvintes.isEmpty()) {
+            notificarRegiao(armazem.getLimites(indice));
+        }
+    }
+
+    /**
+     * Notifica a união das áreas ocupadas antes e depois de uma mudança.
+     */
+    private void notificarUniao(Rectangle antes, int indice) {
+        if (!ouvintes.isEmpty()) {
+            antes.add(armazem.getLimites(indice));
+            notificarRegiao(antes);
+        }
+    }
+
+    private void notificarRegiao(Rectangle regiaoMundo) {
+        for (OuvinteSimulacao ouvinte : ouvintes) {
+            ouvinte.regiaoAlterada(regiaoMundo);
+        }
+    }
+
+    /**
+     * Adiciona o recurso ao mapa e à grade de recursos.
+     */
+    private void incluirRecurso(Recurso recurso) {
+        recursos.add(recurso);
+        gradeRecursos.atualizar(recurso, recurso.getCentroX(), recurso.getCentroY());
+    }
+
+    /**
+     * Contabiliza a baixa de um personagem no contador apropriado.
+     *
+     * @param tipo tipo do personagem que foi eliminado
+     */
+    private void contabilizarBaixa(TipoPersonagem tipo) {
+        switch (tipo) {
+            case ALDEAO -> baixasAldeoes++;
+            case ARQUEIRO -> baixasArqueiros++;
+            case CAVALEIRO -> baixasCavaleiros++;
+        }
+    }
+
+    private void adicionarEstoque(TipoRecurso tipo, int quantidade) {
+        switch (tipo) {
+            case COMIDA -> this.estoqueComida += quantidade;
+            case OURO -> this.estoqueOuro += quantidade;
+            case MADEIRA -> this.estoqueMadeira += quantidade;
+        }
+    }
+
+    /**
+     * Retorna o armazém dos personagens (somente leitura fora do motor).
+     */
+    public ArmazemEntidades getArmazem() {
+        return armazem;
+    }
+
+    /**
+     * Retorna o barramento onde o motor publica os eventos do jogo.
+     */
+    public BarramentoEventos getEventos() {
+        return eventos;
+    }
+
+    /**
+     * Retorna a grade espacial dos personagens, indexados pelo centro.
+     */
+    public GradeEspacial<Personagem> getGradePersonagens() {
+        return gradePersonagens;
+    }
+
+    /**
+     * Retorna os recursos do mapa (somente leitura: alterações devem passar por
+     * {@link #adicionarRecurso(Recurso)}).
+     */
+    public Set<Recurso> getRecursos() {
+        return Collections.unmodifiableSet(recursos);
+    }
+
+    public int getQuantidadePersonagens() {
+        return armazem.getQuantidade();
+    }
+
+    /**
+     * Retorna a quantidade de personagens do tipo (incluindo os em fade-out), em tempo constante.
+     */
+    public int getQuantidadePersonagens(TipoPersonagem tipo) {
+        return armazem.getQuantidade(tipo);
+    }
+
+    public int getBaixasAldeoes() {
+        return baixasAldeoes;
+    }
+
+    public int getBaixasArqueiros() {
+        return baixasArqueiros;
+    }
+
+    public int getBaixasCavaleiros() {
+        return baixasCavaleiros;
+    }
+
+    public int getTotalBaixas() {
+        return baixasAldeoes + baixasArqueiros + baixasCavaleiros;
+    }
+
+    public int getEstoqueComida() {
+        return estoqueComida;
+    }
+
+    public int getEstoqueOuro() {
+        return estoqueOuro;
+    }
+
+    public int getEstoqueMadeira() {
+        return estoqueMadeira;
+    }
+}
@@ -0,0 +1,27 @@
+package ifsc.joe.simulacao;
+
+import java.awt.*;
+
+/**
+ * Recebe as mudanças visíveis feitas pelo {@link MotorSimulacao} durante um passo,
+ * na thread que avança o motor. Usado pela interface para saber o que
+ * redesenhar; sem ouvintes o motor não calcula áreas alteradas. Baixas e
+ * coletas chegam pelo {@link ifsc.joe.eventos.BarramentoEventos}.
+ * Todos os métodos têm implementação vazia, basta sobrescrever os de interesse.
+ */
+public interface OuvinteSimulacao {
+
+    /**
+     * Uma região do mundo mudou e precisa ser redesenhada.
+     *
+     * @param regiaoMundo região afetada, em coordenadas do mundo
+     */
+    default void regiaoAlterada(Rectangle regiaoMundo) {
+    }
+
+    /**
+     * Um recurso foi adicionado ou coletado.
+     */
+    default void recursosAlterados() {
+    }
+}
@@ -0,0 +1,172 @@
+package ifsc.joe.ui;
+
+import ifsc.joe.config.Constantes;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+
+/**
+ * Câmera que mapeia as coordenadas do mundo para os pixels da Tela.
+ * Permite deslocar (pan) e aproximar/afastar (zoom) a visão sobre um mundo
+ * maior que o painel, e informa a área visível para o recorte de entidades.
+ */
+public class Camera {
+
+    // Canto superior esquerdo da visão, em coordenadas do mundo
+    private double x;
+    private double y;
+    private double zoom;
+
+    // Tamanho do painel em pixels
+    private int larguraViewport;
+    private int alturaViewport;
+
+    public Camera(int larguraViewport, int alturaViewport) {
+        this.x = 0;
+        this.y = 0;
+        this.zoom = 1.0;
+        this.larguraViewport = larguraViewport;
+        this.alturaViewport = alturaViewport;
+    }
+
+    /**
+     * Atualiza o tamanho do painel e reposiciona a câmera dentro do mundo.
+     *
+     * @param largura largura do painel em pixels
+     * @param altura  altura do painel em pixels
+     */
+    public void setViewport(int largura, int altura) {
+        this.larguraViewport = largura;
+        this.alturaViewport = altura;
+        limitar();
+    }
+
+    /**
+     * Desloca a câmera conforme um arraste do mouse.
+     *
+     * @param dxTela deslocamento horizontal em pixels da tela
+     * @param dyTela deslocamento vertical em pixels da tela
+     */
+    public void transladar(int dxTela, int dyTela) {
+        this.x -= dxTela / zoom;
+        this.y -= dyTela / zoom;
+        limitar();
+    }
+
+    /**
+     * Multiplica o zoom mantendo fixo o ponto do mundo sob o cursor.
+     *
+     * @param fator  fator multiplicativo do zoom
+     * @param ancoraX coordenada X do cursor na tela
+     * @param ancoraY coordenada Y do cursor na tela
+     */
+    public void aplicarZoom(double fator, int ancoraX, int ancoraY) {
+        double mundoX = paraMundoX(ancoraX);
+        double mundoY = paraMundoY(ancoraY);
+
+        this.zoom = Math.min(Constantes.Camera.ZOOM_MAXIMO,
+                Math.max(Constantes.Camera.ZOOM_MINIMO, this.zoom * fator));
+
+        this.x = mundoX - ancoraX / zoom;
+        this.y = mundoY - ancoraY / zoom;
+        limitar();
+    }
+
+    /**
+     * Mantém a visão dentro dos limites do mundo.
+     * Se o mundo inteiro couber na tela, centraliza-o.
+     */
+    private void limitar() {
+        double larguraVisivel = larguraViewport / zoom;
+        double alturaVisivel = alturaViewport / zoom;
+
+        if (larguraVisivel >= Constantes.Mundo.LARGURA) {
+            x = (Constantes.Mundo.LARGURA - larguraVisivel) / 2;
+        } else {
+            x = Math.min(Math.max(0, x), Constantes.Mundo.LARGURA - larguraVisivel);
+        }
+
+        if (alturaVisivel >= Constantes.Mundo.ALTURA) {
+            y = (Constantes.Mundo.ALTURA - alturaVisivel) / 2;
+        } else {
+            y = Math.min(Math.max(0, y), Constantes.Mundo.ALTURA - alturaVisivel);
+        }
+    }
+
+    /**
+     * Converte uma coordenada X da tela para o mundo.
+     */
+    public double paraMundoX(int telaX) {
+        return x + telaX / zoom;
+    }
+
+    /**
+     * Converte uma coordenada Y da tela para o mundo.
+     */
+    public double paraMundoY(int telaY) {
+        return y + telaY / zoom;
+    }
+
+    /**
+     * Converte uma coordenada X do mundo para a tela.
+     */
+    public int paraTelaX(double mundoX) {
+        return (int) Math.floor((mundoX - x) * zoom);
+    }
+
+    /**
+     * Converte uma coordenada Y do mundo para a tela.
+     */
+    public int paraTelaY(double mundoY) {
+        return (int) Math.floor((mundoY - y) * zoom);
+    }
+
+    /**
+     * Converte um retângulo do mundo para pixels da tela, arredondando para fora.
+     * Inclui 1px de margem para o suavizado de sprites escalados.
+     *
+     * @param mundo retângulo em coordenadas do mundo
+     * @return retângulo em pixels da tela
+     */
+    public Rectangle paraTela(Rectangle mundo) {
+        int x0 = (int) Math.floor((mundo.x - x) * zoom) - 1;
+        int y0 = (int) Math.floor((mundo.y - y) * zoom) - 1;
+        int x1 = (int) Math.ceil((mundo.x + mundo.width - x) * zoom) + 1;
+        int y1 = (int) Math.ceil((mundo.y + mundo.height - y) * zoom) + 1;
+        return new Rectangle(x0, y0, x1 - x0, y1 - y0);
+    }
+
+    /**
+     * Converte um retângulo da tela para coordenadas do mundo, arredondando para fora.
+     *
+     * @param tela retângulo em pixels da tela
+     * @return retângulo em coordenadas do mundo
+     */
+    public Rectangle paraMundo(Rectangle tela) {
+        int x0 = (int) Math.floor(paraMundoX(tela.x));
+        int y0 = (int) Math.floor(paraMundoY(tela.y));
+        int x1 = (int) Math.ceil(paraMundoX(tela.x + tela.width));
+        int y1 = (int) Math.ceil(paraMundoY(tela.y + tela.height));
+        return new Rectangle(x0, y0, x1 - x0, y1 - y0);
+    }
+
+    /**
+     * Retorna a área do mundo atualmente visível no painel.
+     */
+    public Rectangle getAreaVisivel() {
+        return paraMundo(new Rectangle(0, 0, larguraViewport, alturaViewport));
+    }
+
+    /**
+     * Retorna a transformação que leva coordenadas do mundo para a tela.
+     */
+    public AffineTransform getTransformacao() {
+        AffineTransform transformacao = AffineTransform.getScaleInstance(zoom, zoom);
+        transformacao.translate(-x, -y);
+        return transformacao;
+    }
+
+    public double getZoom() {
+        return zoom;
+    }
+}
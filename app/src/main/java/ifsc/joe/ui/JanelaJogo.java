@@ -1,5 +1,12 @@
 package ifsc.joe.ui;
 
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.NivelRegistro;
+import ifsc.joe.eventos.BarramentoEventos;
+import ifsc.joe.eventos.ConsumidorAudio;
+import ifsc.joe.eventos.ConsumidorLog;
+import ifsc.joe.registro.RegistroCombate;
+
 import javax.swing.*;
 
 /**
@@ -10,12 +17,14 @@ public class JanelaJogo {
     private static final String TITULO = "Java of Empires";
     private final JFrame frame;
     private final PainelControles painelControles;
+    private LoopJogo loopJogo;
 
     public JanelaJogo() {
         this.frame = new JFrame(TITULO);
         this.painelControles = new PainelControles();
 
         this.configurarJanela();
+        this.configurarConsumidoresEventos();
     }
 
     /**
@@ -29,10 +38,46 @@ public class JanelaJogo {
         frame.setLocationRelativeTo(null); // Centralizar na tela
     }
 
+    /**
+     * Som e registro de combate consomem os eventos do motor em threads
+     * próprias, fora da EDT. Com o registro desligado, nem o consumidor é criado.
+     */
+    private void configurarConsumidoresEventos() {
+        BarramentoEventos eventos = painelControles.getTela().getMotor().getEventos();
+        eventos.registrar("audio", new ConsumidorAudio());
+        if (RegistroCombate.getInstancia().isHabilitado(NivelRegistro.INFO)) {
+            eventos.registrar("log", new ConsumidorLog());
+        }
+    }
+
     /**
      * Torna a janela visível.
+     * Se a propriedade joe.renderizacaoAtiva estiver habilitada, inicia o loop
+     * de renderização ativa (com joe.vsync limitando à taxa do monitor).
      */
     public void exibir() {
         frame.setVisible(true);
+
+        if (Boolean.getBoolean(Constantes.Geral.PROPRIEDADE_RENDERIZACAO_ATIVA)) {
+            boolean vsync = Boolean.getBoolean(Constantes.Geral.PROPRIEDADE_VSYNC);
+            loopJogo = new LoopJogo(frame, painelControles.getTela(), vsync);
+            loopJogo.iniciar();
+        }
+    }
+
+    /**
+     * Define uma ação executada uma vez, logo após o primeiro quadro do jogo.
+     *
+     * @param acao ação executada na EDT
+     */
+    public void aoPrimeiroQuadro(Runnable acao) {
+        painelControles.getTela().setAoPrimeiroQuadro(acao);
+    }
+
+    /**
+     * Retorna o loop de renderização ativa, ou null no modo por repaint.
+     */
+    public LoopJogo getLoopJogo() {
+        return loopJogo;
     }
 }
\ No newline at end of file
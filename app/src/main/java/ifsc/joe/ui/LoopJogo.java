@@ -0,0 +1,283 @@
+package ifsc.joe.ui;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.utils.EstatisticasQuadro;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Loop de renderização ativa do jogo.
+ * Avança a simulação em passos de tempo fixos e desenha os quadros diretamente
+ * em um {@link BufferStrategy} da janela, sem depender de chamadas a repaint().
+ * A taxa de quadros pode ser ilimitada ou sincronizada com o monitor.
+ * <p>
+ * Enquanto o loop roda, ele é o único a desenhar na janela: a janela inteira
+ * (Tela e painel lateral) é desenhada a cada quadro, e um {@link RepaintManager}
+ * próprio descarta os pedidos de repaint dos componentes da janela, que do
+ * contrário seriam pintados pelo Swing por fora do BufferStrategy.
+ * <p>
+ * O estado do jogo continua confinado à EDT: o loop apenas controla o tempo e
+ * executa cada quadro (simulação + desenho) via invokeAndWait.
+ */
+public class LoopJogo implements Runnable {
+
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+
+    private final JFrame frame;
+    private final Tela tela;
+    private final boolean sincronizarVsync;
+    // Intervalo entre inícios de quadros (inclui a espera do vsync): dá a taxa real
+    private final EstatisticasQuadro estatisticas;
+    // Tempo gasto com simulação e desenho em cada quadro
+    private final EstatisticasQuadro trabalho;
+    private final String tituloOriginal;
+    private RepaintManager repaintManagerOriginal;
+
+    private volatile boolean executando;
+    private Thread thread;
+
+    /**
+     * @param frame            janela onde os quadros serão desenhados
+     * @param tela             área de jogo que será simulada e renderizada
+     * @param sincronizarVsync true para limitar à taxa de atualização do monitor
+     */
+    public LoopJogo(JFrame frame, Tela tela, boolean sincronizarVsync) {
+        this.frame = frame;
+        this.tela = tela;
+        this.sincronizarVsync = sincronizarVsync;
+        this.estatisticas = new EstatisticasQuadro(Constantes.Geral.JANELA_ESTATISTICAS);
+        this.trabalho = new EstatisticasQuadro(Constantes.Geral.JANELA_ESTATISTICAS);
+        this.tituloOriginal = frame.getTitle();
+    }
+
+    /**
+     * Cria o BufferStrategy da janela e inicia a thread do loop.
+     * Deve ser chamado na EDT, depois que a janela estiver visível.
+     */
+    public void iniciar() {
+        if (executando)
+            return;
+
+        frame.setIgnoreRepaint(true);
+        frame.createBufferStrategy(2);
+        tela.setRenderizacaoAtiva(true);
+        repaintManagerOriginal = RepaintManager.currentManager(frame);
+        RepaintManager.setCurrentManager(new RepaintManagerLoop(frame, repaintManagerOriginal));
+
+        executando = true;
+        thread = new Thread(this, "loop-jogo");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Interrompe o loop e devolve a Tela ao modo de repaint tradicional.
+     */
+    public void parar() {
+        executando = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        SwingUtilities.invokeLater(() -> {
+            if (repaintManagerOriginal != null) {
+                RepaintManager.setCurrentManager(repaintManagerOriginal);
+                repaintManagerOriginal = null;
+            }
+            tela.setRenderizacaoAtiva(false);
+            frame.setIgnoreRepaint(false);
+            frame.setTitle(tituloOriginal);
+            frame.repaint();
+        });
+    }
+
+    @Override
+    public void run() {
+        long passoNanos = NANOS_POR_SEGUNDO / Constantes.Geral.TICKS_POR_SEGUNDO;
+        long periodoQuadroNanos = sincronizarVsync ? NANOS_POR_SEGUNDO / obterTaxaAtualizacao() : 0;
+        long proximaAtualizacaoTitulo = System.nanoTime() + NANOS_POR_SEGUNDO;
+
+        long anterior = System.nanoTime();
+        long acumulado = 0;
+        boolean primeiroQuadro = true;
+
+        while (executando) {
+            long inicioQuadro = System.nanoTime();
+            if (!primeiroQuadro) {
+                estatisticas.registrar(inicioQuadro - anterior);
+            }
+            primeiroQuadro = false;
+            acumulado += inicioQuadro - anterior;
+            anterior = inicioQuadro;
+
+            // Quantidade de passos fixos devidos desde o último quadro
+            int passos = (int) Math.min(acumulado / passoNanos, Constantes.Geral.MAX_TICKS_POR_QUADRO);
+            acumulado = passos == Constantes.Geral.MAX_TICKS_POR_QUADRO ? 0 : acumulado - passos * passoNanos;
+            long acumuladoRestante = acumulado;
+
+            if (!executarNaEdt(() -> {
+                for (int i = 0; i < passos; i++) {
+                    tela.avancarSimulacao();
+                }
+                tela.interpolar((float) acumuladoRestante / passoNanos);
+                desenharQuadro();
+            })) {
+                break;
+            }
+
+            long fimQuadro = System.nanoTime();
+            trabalho.registrar(fimQuadro - inicioQuadro);
+
+            if (fimQuadro >= proximaAtualizacaoTitulo) {
+                String resumo = gerarResumo();
+                SwingUtilities.invokeLater(() -> frame.setTitle(tituloOriginal + " | " + resumo));
+                proximaAtualizacaoTitulo = fimQuadro + NANOS_POR_SEGUNDO;
+            }
+
+            if (sincronizarVsync) {
+                aguardar(inicioQuadro + periodoQuadroNanos - System.nanoTime());
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Monta o resumo exibido no título: taxa e intervalo entre quadros, e o
+     * tempo de trabalho por quadro, que com vsync fica abaixo do intervalo.
+     */
+    private String gerarResumo() {
+        return String.format("%.0f fps (%.2fms entre quadros) | trabalho: média %.2fms | mín %.2fms | máx %.2fms",
+                estatisticas.getQuadrosPorSegundo(), estatisticas.getMediaMs(),
+                trabalho.getMediaMs(), trabalho.getMinimoMs(), trabalho.getMaximoMs());
+    }
+
+    /**
+     * Desenha a janela inteira no buffer traseiro e realiza a troca de páginas.
+     * O painel lateral também é desenhado aqui, já que o Swing não o pinta
+     * enquanto o loop roda.
+     */
+    private void desenharQuadro() {
+        BufferStrategy estrategia = frame.getBufferStrategy();
+        if (estrategia == null)
+            return;
+
+        do {
+            do {
+                Graphics g = estrategia.getDrawGraphics();
+                try {
+                    Insets insets = frame.getInsets();
+                    g.translate(insets.left, insets.top);
+                    frame.getRootPane().paint(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (estrategia.contentsRestored());
+            estrategia.show();
+        } while (estrategia.contentsLost());
+
+        if (sincronizarVsync) {
+            Toolkit.getDefaultToolkit().sync();
+        }
+    }
+
+    /**
+     * Executa a tarefa na EDT e aguarda sua conclusão.
+     *
+     * @return false se o loop deve ser encerrado
+     */
+    private boolean executarNaEdt(Runnable tarefa) {
+        try {
+            SwingUtilities.invokeAndWait(tarefa);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (InvocationTargetException e) {
+            System.err.println("[LOOP] Erro ao processar quadro: " + e.getCause());
+            return false;
+        }
+    }
+
+    /**
+     * Dorme pelo tempo restante até o próximo quadro, se houver.
+     */
+    private void aguardar(long nanos) {
+        if (nanos <= 0)
+            return;
+
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executando = false;
+        }
+    }
+
+    /**
+     * Obtém a taxa de atualização do monitor onde a janela está.
+     */
+    private int obterTaxaAtualizacao() {
+        GraphicsConfiguration configuracao = frame.getGraphicsConfiguration();
+        int taxa = configuracao != null
+                ? configuracao.getDevice().getDisplayMode().getRefreshRate()
+                : DisplayMode.REFRESH_RATE_UNKNOWN;
+        return taxa > 0 ? taxa : Constantes.Geral.TAXA_ATUALIZACAO_PADRAO;
+    }
+
+    /**
+     * Retorna as estatísticas de intervalo entre inícios de quadros, de onde
+     * vem a taxa de quadros.
+     */
+    public EstatisticasQuadro getEstatisticas() {
+        return estatisticas;
+    }
+
+    /**
+     * Retorna as estatísticas do tempo gasto com simulação e desenho por quadro.
+     */
+    public EstatisticasQuadro getEstatisticasTrabalho() {
+        return trabalho;
+    }
+
+    /**
+     * Verifica se o loop está em execução.
+     */
+    public boolean isExecutando() {
+        return executando;
+    }
+
+    /**
+     * Descarta os pedidos de repaint dos componentes da janela do loop, que
+     * já é desenhada por inteiro a cada quadro, e repassa os das outras janelas
+     * (diálogos, menus, tooltips) ao gerenciador original. O buffer duplo
+     * continua ligado: fora de um repaint do Swing, como no desenho do loop,
+     * os componentes pintam direto no BufferStrategy.
+     */
+    private static class RepaintManagerLoop extends RepaintManager {
+
+        private final JFrame frame;
+        private final RepaintManager original;
+
+        RepaintManagerLoop(JFrame frame, RepaintManager original) {
+            this.frame = frame;
+            this.original = original;
+        }
+
+        @Override
+        public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+            if (SwingUtilities.getWindowAncestor(c) == frame)
+                return;
+            original.addDirtyRegion(c, x, y, w, h);
+        }
+
+        @Override
+        public void addDirtyRegion(Window window, int x, int y, int w, int h) {
+            if (window == frame)
+                return;
+            original.addDirtyRegion(window, x, y, w, h);
+        }
+    }
+}
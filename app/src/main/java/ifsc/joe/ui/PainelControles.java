@@ -2,6 +2,11 @@ package ifsc.joe.ui;
 
 import ifsc.joe.config.Constantes;
 import ifsc.joe.enums.Direcao;
+import ifsc.joe.enums.TipoEvento;
+import ifsc.joe.enums.TipoPersonagem;
+import ifsc.joe.eventos.ConsumidorEventos;
+import ifsc.joe.eventos.EventoJogo;
+import ifsc.joe.simulacao.MotorSimulacao;
 
 import javax.swing.*;
 import java.awt.*;
@@ -10,13 +15,16 @@ import java.util.Random;
 
 /**
  * Classe responsável por gerenciar os controles e interações da interface.
- * Conecta os componentes visuais com a lógica do jogo (Tela).
+ * Conecta os componentes visuais ao motor de simulação desenhado pela Tela.
  */
 public class PainelControles {
 
     private final Random sorteio;
     private Tela tela;
 
+    // Teclas de direção seguradas, indexadas pelo ordinal de Direcao
+    private final boolean[] direcoesPressionadas = new boolean[Direcao.values().length];
+
     // Componentes da interface (gerados pelo Form Designer)
     private JPanel painelPrincipal;
     private JPanel painelTela;
@@ -49,14 +57,12 @@ public class PainelControles {
     private JLabel labelMadeira;
     private JButton botaoColetar;
 
-    private Timer timerAtualizarPlacar;
-
     public PainelControles() {
         this.sorteio = new Random();
         configurarListeners();
         desabilitarFocoBotoes();
         configurarAtalhosDoTeclado();
-        iniciarAtualizacaoPlacar();
+        configurarAtualizacaoPlacar();
     }
 
     /**
@@ -109,16 +115,64 @@ public class PainelControles {
      * @param direcao direção do movimento
      */
     private void movimentarPorTipoSelecionado(Direcao direcao) {
+        getMotor().movimentar(getTipoSelecionado(), direcao);
+    }
+
+    /**
+     * Retorna o tipo selecionado nos radio buttons, ou null para "Todos".
+     */
+    private TipoPersonagem getTipoSelecionado() {
         if (aldeaoRadioButton.isSelected()) {
-            getTela().movimentarAldeoes(direcao);
+            return TipoPersonagem.ALDEAO;
         } else if (arqueiroRadioButton.isSelected()) {
-            getTela().movimentarArqueiros(direcao);
+            return TipoPersonagem.ARQUEIRO;
         } else if (cavaleiroRadioButton.isSelected()) {
-            getTela().movimentarCavaleiros(direcao);
-        } else {
-            // Por padrão (ou se "Todos" estiver selecionado), movimenta todos
-            getTela().movimentarPersonagens(direcao);
+            return TipoPersonagem.CAVALEIRO;
         }
+        // Por padrão (ou se "Todos" estiver selecionado), movimenta todos
+        return null;
+    }
+
+    /**
+     * Registra que uma tecla de direção foi pressionada ou solta. As repetições
+     * automáticas do sistema não mudam o estado e são ignoradas; o motor só
+     * recebe um comando quando a direção resultante muda.
+     */
+    private void atualizarTeclaDirecao(Direcao direcao, boolean pressionada) {
+        if (direcoesPressionadas[direcao.ordinal()] == pressionada)
+            return;
+
+        direcoesPressionadas[direcao.ordinal()] = pressionada;
+        enviarMovimentoContinuo();
+    }
+
+    /**
+     * Solta todas as teclas de direção (ex: a janela perdeu o foco e os
+     * eventos de tecla solta não chegarão).
+     */
+    private void soltarTeclasDirecao() {
+        boolean algumaPressionada = false;
+        for (int i = 0; i < direcoesPressionadas.length; i++) {
+            algumaPressionada |= direcoesPressionadas[i];
+            direcoesPressionadas[i] = false;
+        }
+        if (algumaPressionada) {
+            enviarMovimentoContinuo();
+        }
+    }
+
+    /**
+     * Envia ao motor a direção das teclas seguradas, aplicada a cada passo ao tipo selecionado.
+     */
+    private void enviarMovimentoContinuo() {
+        if (getTela() == null)
+            return;
+
+        int direcaoX = (direcoesPressionadas[Direcao.DIREITA.ordinal()] ? 1 : 0)
+                - (direcoesPressionadas[Direcao.ESQUERDA.ordinal()] ? 1 : 0);
+        int direcaoY = (direcoesPressionadas[Direcao.BAIXO.ordinal()] ? 1 : 0)
+                - (direcoesPressionadas[Direcao.CIMA.ordinal()] ? 1 : 0);
+        getMotor().definirMovimentoContinuo(getTipoSelecionado(), direcaoX, direcaoY);
     }
 
     /**
@@ -144,7 +198,7 @@ public class PainelControles {
      */
     private void configurarBotaoMontar() {
         montarButton.addActionListener(e -> {
-            getTela().alternarMontariaCavaleiros();
+            getMotor().alternarMontariaCavaleiros();
         });
         montarButton.setToolTipText("Montar/Desmontar cavaleiros");
     }
@@ -189,6 +243,14 @@ public class PainelControles {
         } else {
             montarButton.setToolTipText("Selecione Cavaleiro ou Todos");
         }
+
+        // O movimento das teclas seguradas passa a valer para o novo tipo
+        for (boolean pressionada : direcoesPressionadas) {
+            if (pressionada) {
+                enviarMovimentoContinuo();
+                break;
+            }
+        }
     }
 
     /**
@@ -198,12 +260,12 @@ public class PainelControles {
         if (aldeaoRadioButton.isSelected()) {
             // Aldeão não ataca
         } else if (arqueiroRadioButton.isSelected()) {
-            getTela().atacarArqueiros();
+            getMotor().atacar(TipoPersonagem.ARQUEIRO);
         } else if (cavaleiroRadioButton.isSelected()) {
-            getTela().atacarCavaleiros();
+            getMotor().atacar(TipoPersonagem.CAVALEIRO);
         } else {
             // Por padrão (ou se "Todos" estiver selecionado), ataca todos (exceto aldeões)
-            getTela().atacarPersonagens();
+            getMotor().atacar(null);
         }
     }
 
@@ -212,7 +274,7 @@ public class PainelControles {
      */
     private void criarAldeaoAleatorio() {
         int[] posicao = gerarPosicaoAleatoria();
-        getTela().criarAldeao(posicao[0], posicao[1]);
+        getMotor().criarPersonagem(TipoPersonagem.ALDEAO, posicao[0], posicao[1]);
     }
 
     /**
@@ -220,7 +282,7 @@ public class PainelControles {
      */
     private void criarArqueiroAleatorio() {
         int[] posicao = gerarPosicaoAleatoria();
-        getTela().criarArqueiro(posicao[0], posicao[1]);
+        getMotor().criarPersonagem(TipoPersonagem.ARQUEIRO, posicao[0], posicao[1]);
     }
 
     /**
@@ -228,30 +290,40 @@ public class PainelControles {
      */
     private void criarCavaleiroAleatorio() {
         int[] posicao = gerarPosicaoAleatoria();
-        getTela().criarCavaleiro(posicao[0], posicao[1]);
+        getMotor().criarPersonagem(TipoPersonagem.CAVALEIRO, posicao[0], posicao[1]);
     }
 
     /**
-     * Gera uma posição aleatória dentro dos limites da tela.
+     * Gera uma posição aleatória dentro da área do mundo visível na tela.
      *
-     * @return array com [posX, posY]
+     * @return array com [posX, posY] em coordenadas do mundo
      */
     private int[] gerarPosicaoAleatoria() {
-        int posX = sorteio.nextInt(Math.max(1, painelTela.getWidth() - Constantes.Interface.PADDING_BORDAS));
-        int posY = sorteio.nextInt(Math.max(1, painelTela.getHeight() - Constantes.Interface.PADDING_BORDAS));
+        Rectangle areaVisivel = getTela().getAreaVisivel();
+        int posX = areaVisivel.x
+                + sorteio.nextInt(Math.max(1, areaVisivel.width - Constantes.Interface.PADDING_BORDAS));
+        int posY = areaVisivel.y
+                + sorteio.nextInt(Math.max(1, areaVisivel.height - Constantes.Interface.PADDING_BORDAS));
         return new int[] { posX, posY };
     }
 
     /**
      * Obtém a referência da Tela com cast seguro.
      */
-    private Tela getTela() {
+    Tela getTela() {
         if (tela == null) {
             tela = (Tela) painelTela;
         }
         return tela;
     }
 
+    /**
+     * Obtém o motor de simulação desenhado pela Tela, que recebe os comandos.
+     */
+    private MotorSimulacao getMotor() {
+        return getTela().getMotor();
+    }
+
     /**
      * Retorna o painel principal para ser adicionado ao JFrame.
      */
@@ -333,7 +405,7 @@ public class PainelControles {
         botaoColetar.setFocusable(false);
         botaoColetar.addActionListener(e -> {
             if (getTela() != null)
-                getTela().coletarRecursosProximos();
+                getMotor().coletarRecursosProximos();
         });
 
         painelPlacar.add(painelBaixasRow1);
@@ -343,11 +415,31 @@ public class PainelControles {
     }
 
     /**
-     * Inicia o timer para atualizar o placar periodicamente.
+     * Atualiza o placar a partir dos eventos de criação, morte e coleta, uma vez por
+     * lote de eventos, em vez de consultar o motor periodicamente.
      */
-    private void iniciarAtualizacaoPlacar() {
-        timerAtualizarPlacar = new Timer(100, e -> atualizarPlacar());
-        timerAtualizarPlacar.start();
+    private void configurarAtualizacaoPlacar() {
+        getMotor().getEventos().registrar("placar", new ConsumidorEventos() {
+            private boolean alterado;
+
+            @Override
+            public void aoEvento(EventoJogo evento) {
+                TipoEvento tipo = evento.getTipo();
+                if (tipo == TipoEvento.MORTE || tipo == TipoEvento.COLETA || tipo == TipoEvento.CRIACAO) {
+                    alterado = true;
+                }
+            }
+
+            @Override
+            public void aoFimLote() {
+                if (alterado) {
+                    alterado = false;
+                    // O motor é avançado na EDT, então o placar é lido lá
+                    SwingUtilities.invokeLater(PainelControles.this::atualizarPlacar);
+                }
+            }
+        });
+        atualizarPlacar();
     }
 
     /**
@@ -355,28 +447,59 @@ public class PainelControles {
      */
     private void atualizarPlacar() {
         if (labelBaixasAldeoes != null && tela != null) {
-            labelBaixasAldeoes.setText("Ald: " + getTela().getBaixasAldeoes());
-            labelBaixasArqueiros.setText("Arq: " + getTela().getBaixasArqueiros());
-            labelBaixasCavaleiros.setText("Cav: " + getTela().getBaixasCavaleiros());
-            labelTotalBaixas.setText("Tot: " + getTela().getTotalBaixas());
+            labelBaixasAldeoes.setText("Ald: " + getMotor().getBaixasAldeoes());
+            labelBaixasArqueiros.setText("Arq: " + getMotor().getBaixasArqueiros());
+            labelBaixasCavaleiros.setText("Cav: " + getMotor().getBaixasCavaleiros());
+            labelTotalBaixas.setText("Tot: " + getMotor().getTotalBaixas());
+
+            // Personagens em campo, contados pelo índice por tipo do armazém
+            labelBaixasAldeoes.setToolTipText("Baixas de Aldeões (em campo: "
+                    + getMotor().getQuantidadePersonagens(TipoPersonagem.ALDEAO) + ")");
+            labelBaixasArqueiros.setToolTipText("Baixas de Arqueiros (em campo: "
+                    + getMotor().getQuantidadePersonagens(TipoPersonagem.ARQUEIRO) + ")");
+            labelBaixasCavaleiros.setToolTipText("Baixas de Cavaleiros (em campo: "
+                    + getMotor().getQuantidadePersonagens(TipoPersonagem.CAVALEIRO) + ")");
+            labelTotalBaixas.setToolTipText("Total de Baixas (em campo: "
+                    + getMotor().getQuantidadePersonagens() + ")");
 
             // Atualiza Recursos
             if (labelComida != null)
-                labelComida.setText("C: " + getTela().getEstoqueComida());
+                labelComida.setText("C: " + getMotor().getEstoqueComida());
             if (labelOuro != null)
-                labelOuro.setText("O: " + getTela().getEstoqueOuro());
+                labelOuro.setText("O: " + getMotor().getEstoqueOuro());
             if (labelMadeira != null)
-                labelMadeira.setText("M: " + getTela().getEstoqueMadeira());
+                labelMadeira.setText("M: " + getMotor().getEstoqueMadeira());
         }
     }
 
     /**
      * Configura todos os atalhos de teclado usando KeyEventDispatcher.
      * Esta abordagem intercepta TODAS as teclas globalmente, independente do foco.
+     * As teclas de direção apenas atualizam o estado das teclas seguradas; o
+     * movimento é aplicado pelo motor a cada passo, com velocidade em pixels
+     * por segundo, independente da repetição automática do teclado.
      */
     private void configurarAtalhosDoTeclado() {
-        KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(e -> {
-            // Só processa eventos de tecla pressionada (ignora released e typed)
+        KeyboardFocusManager gerenciadorFoco = KeyboardFocusManager.getCurrentKeyboardFocusManager();
+        gerenciadorFoco.addPropertyChangeListener("activeWindow", e -> {
+            if (e.getNewValue() == null) {
+                soltarTeclasDirecao();
+            }
+        });
+
+        gerenciadorFoco.addKeyEventDispatcher(e -> {
+            // === MOVIMENTO (WASD e Setas): pressionada e solta ===
+            Direcao direcao = direcaoDaTecla(e.getKeyCode());
+            if (direcao != null) {
+                if (e.getID() == KeyEvent.KEY_PRESSED) {
+                    atualizarTeclaDirecao(direcao, true);
+                } else if (e.getID() == KeyEvent.KEY_RELEASED) {
+                    atualizarTeclaDirecao(direcao, false);
+                }
+                return true;
+            }
+
+            // Os demais atalhos só processam tecla pressionada (ignora released e typed)
             if (e.getID() != KeyEvent.KEY_PRESSED) {
                 return false;
             }
@@ -384,27 +507,6 @@ public class PainelControles {
             int keyCode = e.getKeyCode();
 
             switch (keyCode) {
-                // === MOVIMENTO (WASD e Setas) ===
-                case KeyEvent.VK_W:
-                case KeyEvent.VK_UP:
-                    movimentarPorTipoSelecionado(Direcao.CIMA);
-                    return true;
-
-                case KeyEvent.VK_S:
-                case KeyEvent.VK_DOWN:
-                    movimentarPorTipoSelecionado(Direcao.BAIXO);
-                    return true;
-
-                case KeyEvent.VK_A:
-                case KeyEvent.VK_LEFT:
-                    movimentarPorTipoSelecionado(Direcao.ESQUERDA);
-                    return true;
-
-                case KeyEvent.VK_D:
-                case KeyEvent.VK_RIGHT:
-                    movimentarPorTipoSelecionado(Direcao.DIREITA);
-                    return true;
-
                 // === CRIAR PERSONAGENS (1, 2, 3) ===
                 case KeyEvent.VK_1:
                 case KeyEvent.VK_NUMPAD1:
@@ -433,12 +535,12 @@ public class PainelControles {
 
                 // === MONTAR/DESMONTAR (M) ===
                 case KeyEvent.VK_M:
-                    getTela().alternarMontariaCavaleiros();
+                    getMotor().alternarMontariaCavaleiros();
                     return true;
 
                 // === COLETAR (C) ===
                 case KeyEvent.VK_C:
-                    getTela().coletarRecursosProximos();
+                    getMotor().coletarRecursosProximos();
                     return true;
 
                 default:
@@ -447,6 +549,19 @@ public class PainelControles {
         });
     }
 
+    /**
+     * Retorna a direção associada à tecla (WASD e setas), ou null.
+     */
+    private static Direcao direcaoDaTecla(int keyCode) {
+        return switch (keyCode) {
+            case KeyEvent.VK_W, KeyEvent.VK_UP -> Direcao.CIMA;
+            case KeyEvent.VK_S, KeyEvent.VK_DOWN -> Direcao.BAIXO;
+            case KeyEvent.VK_A, KeyEvent.VK_LEFT -> Direcao.ESQUERDA;
+            case KeyEvent.VK_D, KeyEvent.VK_RIGHT -> Direcao.DIREITA;
+            default -> null;
+        };
+    }
+
     /**
      * Alterna entre os filtros de tipo de personagem na ordem:
      * Todos -> Aldeão -> Arqueiro -> Cavaleiro -> Todos...
@@ -0,0 +1,67 @@
+package ifsc.joe.ui;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.NivelDetalhe;
+
+/**
+ * Decide o nível de detalhe da renderização a partir da quantidade de
+ * personagens e do zoom da câmera.
+ * Cada nível é ativado quando a quantidade atinge seu limite ou quando o
+ * zoom fica abaixo do seu limite; vale o nível mais simplificado atingido.
+ */
+public class PoliticaNivelDetalhe {
+
+    private final int limiteReduzido;
+    private final int limitePontos;
+    private final int limiteMapaCalor;
+    private final double zoomReduzido;
+    private final double zoomPontos;
+    private final double zoomMapaCalor;
+
+    /**
+     * Cria a política com os limites padrão de {@link Constantes.Detalhe}.
+     */
+    public PoliticaNivelDetalhe() {
+        this(Constantes.Detalhe.LIMITE_REDUZIDO, Constantes.Detalhe.LIMITE_PONTOS,
+                Constantes.Detalhe.LIMITE_MAPA_CALOR, Constantes.Detalhe.ZOOM_REDUZIDO,
+                Constantes.Detalhe.ZOOM_PONTOS, Constantes.Detalhe.ZOOM_MAPA_CALOR);
+    }
+
+    /**
+     * @param limiteReduzido  quantidade de personagens a partir da qual o nível é REDUZIDO
+     * @param limitePontos    quantidade a partir da qual o nível é PONTOS
+     * @param limiteMapaCalor quantidade a partir da qual o nível é MAPA_CALOR
+     * @param zoomReduzido    zoom abaixo do qual o nível é REDUZIDO
+     * @param zoomPontos      zoom abaixo do qual o nível é PONTOS
+     * @param zoomMapaCalor   zoom abaixo do qual o nível é MAPA_CALOR
+     */
+    public PoliticaNivelDetalhe(int limiteReduzido, int limitePontos, int limiteMapaCalor,
+            double zoomReduzido, double zoomPontos, double zoomMapaCalor) {
+        this.limiteReduzido = limiteReduzido;
+        this.limitePontos = limitePontos;
+        this.limiteMapaCalor = limiteMapaCalor;
+        this.zoomReduzido = zoomReduzido;
+        this.zoomPontos = zoomPontos;
+        this.zoomMapaCalor = zoomMapaCalor;
+    }
+
+    /**
+     * Avalia o nível de detalhe adequado.
+     *
+     * @param quantidadePersonagens personagens em campo
+     * @param zoom                  zoom atual da câmera
+     * @return nível de detalhe a ser usado
+     */
+    public NivelDetalhe avaliar(int quantidadePersonagens, double zoom) {
+        if (quantidadePersonagens >= limiteMapaCalor || zoom < zoomMapaCalor) {
+            return NivelDetalhe.MAPA_CALOR;
+        }
+        if (quantidadePersonagens >= limitePontos || zoom < zoomPontos) {
+            return NivelDetalhe.PONTOS;
+        }
+        if (quantidadePersonagens >= limiteReduzido || zoom < zoomReduzido) {
+            return NivelDetalhe.REDUZIDO;
+        }
+        return NivelDetalhe.COMPLETO;
+    }
+}
@@ -0,0 +1,159 @@
+package ifsc.joe.ui;
+
+import ifsc.joe.audio.AudioSilencioso;
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.Direcao;
+import ifsc.joe.simulacao.ExecutorSimulacao;
+import ifsc.joe.utils.EstatisticasQuadro;
+import ifsc.joe.utils.GerenciadorAudio;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Renderiza a Tela em uma imagem fora da tela, sem janela nem monitor.
+ * Usa o mesmo pipeline de desenho do jogo ({@link Tela#renderizarQuadro(boolean)}),
+ * o que permite medir o tempo de quadro e comparar imagens em máquinas sem
+ * interface gráfica (java.awt.headless=true).
+ * <p>
+ * Pode ser executado diretamente; as opções são lidas das propriedades
+ * {@code joe.offscreen.*} (ver {@link Constantes.Offscreen}):
+ * <pre>
+ * ./gradlew renderizarOffscreen -Djoe.offscreen.quadros=300 -Djoe.offscreen.personagens=1000
+ * </pre>
+ */
+public class RenderizadorOffscreen {
+
+    private static final Direcao[] DIRECOES = {Direcao.DIREITA, Direcao.BAIXO, Direcao.ESQUERDA, Direcao.CIMA};
+
+    private final Tela tela;
+
+    /**
+     * @param tela    tela com o estado do mundo a ser renderizado
+     * @param largura largura do quadro em pixels
+     * @param altura  altura do quadro em pixels
+     */
+    public RenderizadorOffscreen(Tela tela, int largura, int altura) {
+        this.tela = tela;
+        this.tela.setSize(largura, altura);
+    }
+
+    /**
+     * Renderiza uma sequência de quadros, medindo o tempo de cada um.
+     * No modo completo cada quadro é redesenhado por inteiro sobre o mesmo estado
+     * do mundo. No modo incremental os personagens se movem a cada quadro e
+     * apenas as regiões sujas são redesenhadas, como no jogo.
+     *
+     * @param quadros           quantidade de quadros
+     * @param incremental       true para mover os personagens e redesenhar só as regiões sujas
+     * @param diretorioSaida    diretório onde os quadros e tempos são gravados (null para não gravar)
+     * @param intervaloGravacao grava um quadro a cada N (0 para não gravar quadros)
+     * @return duração de cada quadro, em nanossegundos
+     * @throws IOException se não for possível gravar os arquivos
+     */
+    public long[] renderizar(int quadros, boolean incremental, Path diretorioSaida, int intervaloGravacao)
+            throws IOException {
+        if (diretorioSaida != null) {
+            Files.createDirectories(diretorioSaida);
+        }
+
+        // O primeiro quadro cria as camadas e não entra na medição
+        tela.renderizarQuadro(true);
+
+        long[] duracoes = new long[quadros];
+        for (int i = 0; i < quadros; i++) {
+            if (incremental) {
+                tela.getMotor().movimentar(null, DIRECOES[(i / 10) % DIRECOES.length]);
+                tela.avancarSimulacao();
+            }
+
+            long inicio = System.nanoTime();
+            BufferedImage quadro = tela.renderizarQuadro(!incremental);
+            duracoes[i] = System.nanoTime() - inicio;
+
+            if (diretorioSaida != null && intervaloGravacao > 0 && i % intervaloGravacao == 0) {
+                ImageIO.write(quadro, "png", diretorioSaida.resolve(String.format("quadro_%05d.png", i)).toFile());
+            }
+        }
+
+        if (diretorioSaida != null) {
+            gravarTempos(duracoes, diretorioSaida.resolve("tempos.csv"));
+        }
+        return duracoes;
+    }
+
+    /**
+     * Grava a duração de cada quadro em CSV (quadro;milissegundos).
+     */
+    private void gravarTempos(long[] duracoes, Path arquivo) throws IOException {
+        try (PrintWriter saida = new PrintWriter(Files.newBufferedWriter(arquivo))) {
+            saida.println("quadro;ms");
+            for (int i = 0; i < duracoes.length; i++) {
+                saida.printf("%d;%.3f%n", i, duracoes[i] / 1_000_000.0);
+            }
+        }
+    }
+
+    /**
+     * Cria uma Tela com um mundo reproduzível: recursos e personagens
+     * posicionados a partir da mesma semente.
+     *
+     * @param personagensPorTipo quantidade de aldeões, arqueiros e cavaleiros
+     * @param semente            semente do gerador de posições
+     * @return tela preenchida
+     */
+    public static Tela criarMundo(int personagensPorTipo, long semente) {
+        Random rnd = new Random(semente);
+        Tela tela = new Tela(rnd);
+        ExecutorSimulacao.povoarMundo(tela.getMotor(), rnd, personagensPorTipo);
+        return tela;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Deve ser definido antes de qualquer uso do AWT
+        System.setProperty("java.awt.headless", "true");
+        GerenciadorAudio.getInstancia().setDestino(new AudioSilencioso());
+
+        String prefixo = Constantes.Offscreen.PREFIXO_PROPRIEDADES;
+        int largura = Integer.getInteger(prefixo + "largura", Constantes.Offscreen.LARGURA_PADRAO);
+        int altura = Integer.getInteger(prefixo + "altura", Constantes.Offscreen.ALTURA_PADRAO);
+        int quadros = Integer.getInteger(prefixo + "quadros", Constantes.Offscreen.QUADROS_PADRAO);
+        int personagens = Integer.getInteger(prefixo + "personagens", Constantes.Offscreen.PERSONAGENS_POR_TIPO_PADRAO);
+        int intervalo = Integer.getInteger(prefixo + "intervaloGravacao", Constantes.Offscreen.INTERVALO_GRAVACAO_PADRAO);
+        long semente = Long.getLong(prefixo + "semente", Constantes.Offscreen.SEMENTE_PADRAO);
+        boolean incremental = Boolean.getBoolean(prefixo + "incremental");
+        Path saida = Paths.get(System.getProperty(prefixo + "saida", Constantes.Offscreen.DIRETORIO_SAIDA_PADRAO));
+
+        // O estado do jogo é confinado à EDT, inclusive fora da tela
+        long[][] resultado = new long[1][];
+        String[] nivel = new String[1];
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                Tela tela = criarMundo(personagens, semente);
+                resultado[0] = new RenderizadorOffscreen(tela, largura, altura)
+                        .renderizar(quadros, incremental, saida, intervalo);
+                nivel[0] = tela.getNivelDetalhe().toString();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        EstatisticasQuadro estatisticas = new EstatisticasQuadro(Math.max(1, quadros));
+        for (long duracao : resultado[0]) {
+            estatisticas.registrar(duracao);
+        }
+
+        System.out.println("[OFFSCREEN] " + largura + "x" + altura + ", " + personagens * 3 + " personagens, "
+                + quadros + " quadros " + (incremental ? "incrementais" : "completos") + ", nível " + nivel[0]);
+        System.out.println("[OFFSCREEN] " + estatisticas.gerarRelatorio());
+        System.out.println("[OFFSCREEN] Quadros e tempos gravados em " + saida.toAbsolutePath());
+        System.exit(0);
+    }
+}
@@ -1,527 +1,882 @@
 package ifsc.joe.ui;
 
 import ifsc.joe.config.Constantes;
+import ifsc.joe.domain.ArmazemEntidades;
 import ifsc.joe.domain.Personagem;
 import ifsc.joe.domain.Recurso;
-import ifsc.joe.domain.impl.Aldeao;
-import ifsc.joe.domain.impl.Arqueiro;
 import ifsc.joe.domain.impl.Cavaleiro;
-import ifsc.joe.enums.Direcao;
-import ifsc.joe.utils.GerenciadorAudio;
+import ifsc.joe.enums.NivelDetalhe;
+import ifsc.joe.enums.NivelRegistro;
+import ifsc.joe.registro.RegistroCombate;
+import ifsc.joe.simulacao.MotorSimulacao;
+import ifsc.joe.simulacao.OuvinteSimulacao;
+import ifsc.joe.utils.CacheSprites;
+import ifsc.joe.utils.GradeEspacial;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.HashSet;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.event.MouseMotionAdapter;
+import java.awt.event.MouseWheelEvent;
 
 /**
- * Classe responsável por gerenciar a área de jogo.
+ * Classe responsável por desenhar a área de jogo.
+ * O estado do mundo pertence ao {@link MotorSimulacao}; a Tela apenas o
+ * desenha, redesenhando as regiões que o motor informa como alteradas.
  * Utiliza polimorfismo para tratar todos os personagens de forma uniforme.
  */
 public class Tela extends JPanel {
 
-    private final Set<Personagem> personagens;
-    private final Set<Recurso> recursos; // Set para evitar duplicatas, embora posição diferencie
-    private Point mousePos; // Posição atual do mouse
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+
+    private final MotorSimulacao motor; // Dono do estado do mundo; a Tela apenas o desenha
+    private final ArmazemEntidades armazem; // Estado dos personagens, lido do motor
+    private Point mousePos; // Posição atual do mouse (pixels da tela)
+
+    // No modo por repaint, dispara os quadros e avança o motor nos passos fixos devidos
+    private final Timer timerSimulacao;
+    private long ultimoQuadroNanos;
+    private long acumuladoNanos;
+
+    // Fração do passo atual já decorrida: os personagens que se moveram são
+    // desenhados entre a posição anterior e a atual (1 = posição atual)
+    private float alfaInterpolacao = 1f;
+
+    // Quando true, os quadros são desenhados pelo LoopJogo em vez de repaint()
+    private boolean renderizacaoAtiva;
+
+    // Executada uma vez, depois do primeiro quadro copiado para a tela
+    private Runnable aoPrimeiroQuadro;
+
+    // Quadro retido: apenas as regiões sujas são redesenhadas nele a cada paint
+    private BufferedImage quadro;
+    private final List<Rectangle> regioesSujas;
+
+    // Camada estática com fundo e recursos, refeita quando os recursos ou a câmera mudam
+    private BufferedImage camadaEstatica;
+    private boolean camadaEstaticaValida;
+
+    // Câmera sobre o mundo (maior que o painel)
+    private final Camera camera;
+    private Point ultimoArraste;
+
+    // Nível de detalhe conforme a quantidade de personagens e o zoom
+    private final PoliticaNivelDetalhe politicaDetalhe;
+    private NivelDetalhe nivelDetalhe;
+    private BufferedImage mascaraAuras; // Camada de cobertura das auras no nível REDUZIDO
+    private final Map<Color, Color> coresOpacas;
+    private Color[] paletaMapaCalor;
+
+    // Índice espacial dos personagens pelo centro, usado para achar o personagem sob o mouse
+    // e para desenhar só quem pode aparecer em cada região suja
+    private final GradeEspacial<Personagem> gradePersonagens;
+    private int[] indicesRegiao;
+    private int quantidadeRegiao;
+    private final Consumer<Personagem> coletorRegiao;
+    private int[] contagemMapaCalor;
+
+    // Personagem sob o mouse e tooltip exibido para ele. O tooltip fica ancorado
+    // onde o mouse estava ao entrar no personagem e suas linhas só são refeitas
+    // quando os atributos exibidos mudam.
+    private Personagem personagemTooltip;
+    private Rectangle limitesTooltip;
+    private Point ancoraTooltip;
+    private List<String> linhasTooltip;
+    private int vidaTooltip;
+    private int ataqueTooltip;
+    private int velocidadeTooltip;
+    private boolean montadoTooltip;
 
-    // Contadores de baixas por tipo
-    private int baixasAldeoes;
-    private int baixasArqueiros;
-    private int baixasCavaleiros;
-
-    // Estoque de recursos
-    private int estoqueComida;
-    private int estoqueOuro;
-    private int estoqueMadeira;
+    public Tela() {
+        this(new java.util.Random());
+    }
 
-    // Timer para animação de fade-out
-    private Timer timerFadeOut;
+    /**
+     * Cria a Tela com recursos iniciais gerados pelo gerador informado.
+     * Com um gerador de semente fixa o estado inicial do mundo é reproduzível.
+     *
+     * @param rnd gerador usado para posicionar os recursos iniciais
+     */
+    public Tela(java.util.Random rnd) {
+        this(new MotorSimulacao(rnd));
+    }
 
-    public Tela() {
+    /**
+     * Cria a Tela que desenha o mundo do motor informado.
+     *
+     * @param motor motor de simulação com o estado do mundo
+     */
+    public Tela(MotorSimulacao motor) {
         this.setBackground(Color.white);
-        this.personagens = new HashSet<>();
-        this.recursos = new HashSet<>();
-        this.baixasAldeoes = 0;
-        this.baixasArqueiros = 0;
-        this.baixasCavaleiros = 0;
-
-        this.estoqueComida = 0;
-        this.estoqueOuro = 0;
-        this.estoqueMadeira = 0;
+        this.motor = motor;
+        this.armazem = motor.getArmazem();
+        this.gradePersonagens = motor.getGradePersonagens();
+        this.regioesSujas = new ArrayList<>();
+        this.camera = new Camera(800, 600);
+        this.politicaDetalhe = new PoliticaNivelDetalhe();
+        this.nivelDetalhe = NivelDetalhe.COMPLETO;
+        this.coresOpacas = new HashMap<>();
+        this.indicesRegiao = new int[64];
+        this.contagemMapaCalor = new int[0];
+        this.coletorRegiao = this::adicionarIndiceRegiao;
+        this.timerSimulacao = new Timer(1000 / Constantes.Geral.QUADROS_POR_SEGUNDO, e -> avancarQuadro());
+
+        // As mudanças do motor viram regiões sujas
+        motor.adicionarOuvinte(new OuvinteSimulacao() {
+            @Override
+            public void regiaoAlterada(Rectangle regiaoMundo) {
+                marcarSujo(regiaoMundo);
+            }
 
-        // Adicionar alguns recursos iniciais para teste
-        generateInitialResources();
+            @Override
+            public void recursosAlterados() {
+                camadaEstaticaValida = false;
+            }
+        });
 
-        // Listener para rastrear posição do mouse para o Tooltip
-        this.addMouseMotionListener(new MouseMotionAdapter() {
+        // Listener para rastrear posição do mouse para o Tooltip e arrastar a câmera
+        MouseAdapter controleMouse = new MouseAdapter() {
             @Override
             public void mouseMoved(MouseEvent e) {
                 mousePos = e.getPoint();
-                repaint(); // Redesenha para atualizar tooltip
+                atualizarTooltip(); // Só marca o tooltip como sujo se o personagem sob o mouse mudar
             }
-        });
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                ultimoArraste = e.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (ultimoArraste != null) {
+                    camera.transladar(e.getX() - ultimoArraste.x, e.getY() - ultimoArraste.y);
+                    ultimoArraste = e.getPoint();
+                    mousePos = e.getPoint();
+                    aposMudancaCamera();
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                camera.aplicarZoom(Math.pow(Constantes.Camera.FATOR_ZOOM, -e.getPreciseWheelRotation()),
+                        e.getX(), e.getY());
+                aposMudancaCamera();
+            }
+        };
+        this.addMouseListener(controleMouse);
+        this.addMouseMotionListener(controleMouse);
+        this.addMouseWheelListener(controleMouse);
+    }
+
+    /**
+     * Invalida a camada estática e a tela inteira após a câmera se mover.
+     */
+    private void aposMudancaCamera() {
+        camadaEstaticaValida = false;
+        marcarTudoSujo();
+        atualizarTooltip();
     }
 
     /**
      * Método invocado sempre que o JPanel precisa ser redesenhado.
+     * As regiões marcadas como sujas são redesenhadas no quadro retido, que
+     * então é copiado para a tela. Pedidos de paint sem regiões sujas (ex:
+     * janela descoberta) apenas copiam o quadro retido.
      *
      * @param g Graphics componente de java.awt
      */
     @Override
     public void paint(Graphics g) {
-        super.paint(g);
-
-        // Desenhar recursos
-        this.recursos.forEach(recurso -> recurso.desenhar(g, this));
-
-        // Percorrendo a lista de personagens e pedindo para cada um se desenhar na tela
-        // Polimorfismo: cada personagem sabe como se desenhar
-        this.personagens.forEach(personagem -> personagem.desenhar(g, this));
+        if (getWidth() <= 0 || getHeight() <= 0)
+            return;
 
-        // Desenhar Tooltip se necessário
-        desenharTooltip(g);
+        g.drawImage(renderizarQuadro(false), 0, 0, this);
 
         // Liberando o contexto gráfico
         g.dispose();
+
+        if (aoPrimeiroQuadro != null) {
+            Runnable acao = aoPrimeiroQuadro;
+            aoPrimeiroQuadro = null;
+            acao.run();
+        }
     }
 
     /**
-     * Verifica e desenha o tooltip se o mouse estiver sobre um personagem.
-     * 
-     * @param g contexto gráfico
+     * Define uma ação executada na EDT logo após o primeiro quadro ser desenhado
+     * (ex: medir o tempo de inicialização).
+     *
+     * @param acao ação executada uma única vez
      */
-    private void desenharTooltip(Graphics g) {
-        if (mousePos == null)
-            return;
-
-        for (Personagem p : personagens) {
-            // Verifica se o mouse está próximo do centro do personagem
-            double dist = Math
-                    .sqrt(Math.pow(mousePos.x - p.getCentroX(), 2) + Math.pow(mousePos.y - p.getCentroY(), 2));
-            if (dist < Constantes.Interface.TOOLTIP_DISTANCIA_DETECCAO) {
-                desenharPainelTooltip(g, p, mousePos.x, mousePos.y);
-                break; // Mostra apenas um por vez
-            }
-        }
+    public void setAoPrimeiroQuadro(Runnable acao) {
+        this.aoPrimeiroQuadro = acao;
     }
 
-    private void desenharPainelTooltip(Graphics g, Personagem p, int x, int y) {
-        java.util.List<String> linhas = new java.util.ArrayList<>();
-        linhas.add("Tipo: " + p.getClass().getSimpleName());
-        linhas.add("Vida: " + p.getVida() + "/" + p.getVidaInicial());
-        linhas.add("Ataque: " + p.getAtaque());
-        linhas.add("Velocidade: " + p.getVelocidade());
-
-        // Adiciona estado extra se for Cavaleiro
-        if (p instanceof Cavaleiro) {
-            Cavaleiro cavaleiro = (Cavaleiro) p;
-            linhas.add("Estado: " + (cavaleiro.isMontado() ? "Montado" : "Desmontado"));
+    /**
+     * Atualiza o quadro retido, redesenhando as regiões sujas, e o retorna.
+     * Não depende de um componente visível: basta que a Tela tenha um tamanho,
+     * o que permite renderizar fora da tela (ex: {@link RenderizadorOffscreen}).
+     *
+     * @param redesenharTudo true para redesenhar o quadro inteiro, inclusive a camada estática
+     * @return quadro retido atualizado
+     */
+    public BufferedImage renderizarQuadro(boolean redesenharTudo) {
+        if (quadro == null || quadro.getWidth() != getWidth() || quadro.getHeight() != getHeight()) {
+            quadro = criarQuadro();
+            camadaEstatica = criarQuadro();
+            camadaEstaticaValida = false;
+            camera.setViewport(getWidth(), getHeight());
+            registrarRegiaoSuja(new Rectangle(0, 0, getWidth(), getHeight()));
         }
 
-        int largura = Constantes.Interface.TOOLTIP_LARGURA;
-        int altura = Constantes.Interface.TOOLTIP_ALTURA_LINHA
-                + (linhas.size() * Constantes.Interface.TOOLTIP_ALTURA_LINHA);
+        if (redesenharTudo) {
+            camadaEstaticaValida = false;
+            registrarRegiaoSuja(new Rectangle(0, 0, getWidth(), getHeight()));
+        }
 
-        g.setColor(Constantes.Interface.TOOLTIP_COR_FUNDO);
-        g.fillRoundRect(x + Constantes.Interface.TOOLTIP_PADDING_X, y + Constantes.Interface.TOOLTIP_PADDING_Y, largura,
-                altura, 10, 10);
+        if (!camadaEstaticaValida) {
+            desenharCamadaEstatica();
+        }
 
-        g.setColor(Constantes.Interface.TOOLTIP_COR_BORDA);
-        g.drawRoundRect(x + Constantes.Interface.TOOLTIP_PADDING_X, y + Constantes.Interface.TOOLTIP_PADDING_Y, largura,
-                altura, 10, 10);
+        atualizarNivelDetalhe();
 
-        int textY = y + Constantes.Interface.TOOLTIP_MARGIN_TEXTO + 5;
-        for (String linha : linhas) {
-            g.drawString(linha, x + Constantes.Interface.TOOLTIP_MARGIN_TEXTO, textY);
-            textY += Constantes.Interface.TOOLTIP_ALTURA_LINHA;
+        for (Rectangle regiao : drenarRegioesSujas()) {
+            Graphics2D g2d = quadro.createGraphics();
+            g2d.clip(regiao);
+            desenharRegiao(g2d, regiao);
+            g2d.dispose();
         }
+
+        return quadro;
     }
 
     /**
-     * Cria um aldeão nas coordenadas X e Y e adiciona à lista de personagens.
+     * Redesenha uma região do quadro: camada estática (fundo e recursos),
+     * personagens e tooltip que a intersectam.
+     * Personagens fora da região (e portanto fora da visão da câmera) são ignorados.
      *
-     * @param x coordenada X
-     * @param y coordenada Y
+     * @param g2d    contexto gráfico já recortado para a região
+     * @param regiao região a ser redesenhada, em pixels da tela
      */
-    public void criarAldeao(int x, int y) {
-        Aldeao aldeao = new Aldeao(x, y);
-        aldeao.desenhar(super.getGraphics(), this);
-        this.personagens.add(aldeao);
-        GerenciadorAudio.getInstancia().tocarSom("create_villager.wav");
+    private void desenharRegiao(Graphics2D g2d, Rectangle regiao) {
+        // Fundo e recursos vêm prontos da camada estática
+        g2d.drawImage(camadaEstatica, 0, 0, this);
+
+        Rectangle regiaoMundo = camera.paraMundo(regiao);
+        Graphics2D gMundo = (Graphics2D) g2d.create();
+        gMundo.transform(camera.getTransformacao());
+
+        switch (nivelDetalhe) {
+            case COMPLETO -> desenharPersonagens(gMundo, regiaoMundo);
+            case REDUZIDO -> {
+                desenharCoberturaAuras(g2d, regiao, regiaoMundo);
+                desenharPersonagens(gMundo, regiaoMundo);
+            }
+            case PONTOS -> desenharPontos(g2d, regiao, regiaoMundo);
+            case MAPA_CALOR -> desenharMapaCalor(g2d, regiao);
+        }
+        gMundo.dispose();
+
+        // Desenhar Tooltip se necessário
+        if (limitesTooltip != null && limitesTooltip.intersects(regiao)) {
+            desenharPainelTooltip(g2d, linhasTooltip, ancoraTooltip.x, ancoraTooltip.y);
+        }
     }
 
     /**
-     * Cria um arqueiro nas coordenadas X e Y e adiciona à lista de personagens.
+     * Desenha os personagens que intersectam a região.
      *
-     * @param x coordenada X
-     * @param y coordenada Y
+     * @param gMundo      contexto gráfico com a transformação da câmera
+     * @param regiaoMundo região em coordenadas do mundo
      */
-    public void criarArqueiro(int x, int y) {
-        Arqueiro arqueiro = new Arqueiro(x, y);
-        arqueiro.desenhar(super.getGraphics(), this);
-        this.personagens.add(arqueiro);
-        GerenciadorAudio.getInstancia().tocarSom("create_archer.wav");
+    private void desenharPersonagens(Graphics2D gMundo, Rectangle regiaoMundo) {
+        int margem = armazem.getMargemDesenho();
+        if (alfaInterpolacao < 1f) {
+            margem += armazem.getDeslocamentoMaximoNoPasso();
+        }
+        int quantidade = coletarPersonagens(regiaoMundo, margem);
+
+        // Percorrendo os personagens e pedindo para cada um se desenhar na tela
+        // Polimorfismo: cada personagem sabe como se desenhar
+        for (int k = 0; k < quantidade; k++) {
+            int i = indicesRegiao[k];
+            if (alfaInterpolacao < 1f && armazem.isMovido(i)) {
+                desenharInterpolado(gMundo, regiaoMundo, i);
+            } else if (armazem.getLimites(i).intersects(regiaoMundo)) {
+                armazem.getPersonagem(i).desenhar(gMundo, this, nivelDetalhe);
+            }
+        }
     }
 
     /**
-     * Cria um cavaleiro nas coordenadas X e Y e adiciona à lista de personagens.
-     *
-     * @param x coordenada X
-     * @param y coordenada Y
+     * Desenha um personagem que se moveu no passo atual no ponto interpolado
+     * entre a posição anterior e a atual.
      */
-    public void criarCavaleiro(int x, int y) {
-        Cavaleiro cavaleiro = new Cavaleiro(x, y);
-        cavaleiro.desenhar(super.getGraphics(), this);
-        this.personagens.add(cavaleiro);
-        GerenciadorAudio.getInstancia().tocarSom("create_knight.wav");
+    private void desenharInterpolado(Graphics2D gMundo, Rectangle regiaoMundo, int i) {
+        if (!armazem.getLimitesMovimento(i).intersects(regiaoMundo))
+            return;
+
+        int atrasoX = armazem.getAtrasoInterpoladoX(i, alfaInterpolacao);
+        int atrasoY = armazem.getAtrasoInterpoladoY(i, alfaInterpolacao);
+        gMundo.translate(atrasoX, atrasoY);
+        armazem.getPersonagem(i).desenhar(gMundo, this, nivelDetalhe);
+        gMundo.translate(-atrasoX, -atrasoY);
     }
 
     /**
-     * Atualiza as coordenadas X ou Y de todos os personagens.
-     * Polimorfismo: cada personagem se move de acordo com sua velocidade.
+     * Desenha as auras de todos os personagens como uma única camada de
+     * cobertura: os círculos são preenchidos sem transparência em uma máscara,
+     * que é composta uma única vez. Auras sobrepostas não acumulam cor.
      *
-     * @param direcao direção para movimentar
+     * @param g2d         contexto gráfico da tela, recortado para a região
+     * @param regiao      região em pixels da tela
+     * @param regiaoMundo região em coordenadas do mundo
      */
-    public void movimentarPersonagens(Direcao direcao) {
-        this.personagens.forEach(personagem -> personagem.mover(direcao, this.getWidth(), this.getHeight()));
+    private void desenharCoberturaAuras(Graphics2D g2d, Rectangle regiao, Rectangle regiaoMundo) {
+        if (mascaraAuras == null || mascaraAuras.getWidth() != getWidth() || mascaraAuras.getHeight() != getHeight()) {
+            mascaraAuras = CacheSprites.criarImagemCompativel(getWidth(), getHeight());
+        }
 
-        // Depois que as coordenadas foram atualizadas é necessário repintar o JPanel
-        this.repaint();
+        Graphics2D gMascara = mascaraAuras.createGraphics();
+        gMascara.setComposite(AlphaComposite.Clear);
+        gMascara.fill(regiao);
+        gMascara.setComposite(AlphaComposite.Src);
+        gMascara.clip(regiao);
+        gMascara.transform(camera.getTransformacao());
+
+        int quantidade = coletarPersonagens(regiaoMundo, armazem.getMargemDesenho());
+        for (int k = 0; k < quantidade; k++) {
+            int i = indicesRegiao[k];
+            if (!armazem.possuiAura(i) || armazem.isMorrendo(i))
+                continue;
+
+            int alcance = armazem.getTipo(i).getAlcance();
+            int x = armazem.getCentroX(i) - alcance;
+            int y = armazem.getCentroY(i) - alcance;
+            if (regiaoMundo.intersects(x, y, alcance * 2, alcance * 2)) {
+                gMascara.setColor(obterCorOpaca(armazem.getPersonagem(i).getCorAlcance()));
+                gMascara.fillOval(x, y, alcance * 2, alcance * 2);
+            }
+        }
+        gMascara.dispose();
+
+        Composite original = g2d.getComposite();
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                Constantes.Detalhe.ALFA_COBERTURA_AURAS));
+        g2d.drawImage(mascaraAuras, 0, 0, null);
+        g2d.setComposite(original);
     }
 
     /**
-     * Movimenta apenas os aldeões.
+     * Desenha cada personagem como um ponto colorido, em pixels da tela.
      *
-     * @param direcao direção para movimentar
+     * @param g2d         contexto gráfico da tela, recortado para a região
+     * @param regiao      região em pixels da tela
+     * @param regiaoMundo região em coordenadas do mundo
      */
-    public void movimentarAldeoes(Direcao direcao) {
-        this.personagens.stream()
-                .filter(p -> p instanceof Aldeao)
-                .forEach(p -> p.mover(direcao, this.getWidth(), this.getHeight()));
-        this.repaint();
+    private void desenharPontos(Graphics2D g2d, Rectangle regiao, Rectangle regiaoMundo) {
+        int tamanho = Constantes.Detalhe.TAMANHO_PONTO;
+        // O ponto tem tamanho fixo na tela: em coordenadas do mundo cresce com o zoom de afastamento
+        int quantidade = coletarPersonagens(regiaoMundo, (int) Math.ceil(tamanho / camera.getZoom()) + 1);
+        for (int k = 0; k < quantidade; k++) {
+            int i = indicesRegiao[k];
+            if (armazem.isMorrendo(i))
+                continue;
+
+            int x = camera.paraTelaX(armazem.getCentroX(i)) - tamanho / 2;
+            int y = camera.paraTelaY(armazem.getCentroY(i)) - tamanho / 2;
+            if (regiao.intersects(x, y, tamanho, tamanho)) {
+                g2d.setColor(obterCorOpaca(armazem.getPersonagem(i).getCorAlcance()));
+                g2d.fillRect(x, y, tamanho, tamanho);
+            }
+        }
     }
 
     /**
-     * Movimenta apenas os arqueiros.
+     * Desenha a densidade de personagens como um mapa de calor em células
+     * de tamanho fixo na tela.
      *
-     * @param direcao direção para movimentar
+     * @param g2d    contexto gráfico da tela, recortado para a região
+     * @param regiao região em pixels da tela
      */
-    public void movimentarArqueiros(Direcao direcao) {
-        this.personagens.stream()
-                .filter(p -> p instanceof Arqueiro)
-                .forEach(p -> p.mover(direcao, this.getWidth(), this.getHeight()));
-        this.repaint();
+    private void desenharMapaCalor(Graphics2D g2d, Rectangle regiao) {
+        int celula = Constantes.Detalhe.CELULA_MAPA_CALOR;
+        int colunaInicial = regiao.x / celula;
+        int linhaInicial = regiao.y / celula;
+        int colunas = (regiao.x + regiao.width - 1) / celula - colunaInicial + 1;
+        int linhas = (regiao.y + regiao.height - 1) / celula - linhaInicial + 1;
+        if (contagemMapaCalor.length < colunas * linhas) {
+            contagemMapaCalor = new int[colunas * linhas];
+        }
+        int[] contagem = contagemMapaCalor;
+        Arrays.fill(contagem, 0, colunas * linhas, 0);
+
+        // Só os personagens das células de calor que cobrem a região
+        Rectangle celulasMundo = camera.paraMundo(new Rectangle(colunaInicial * celula, linhaInicial * celula,
+                colunas * celula, linhas * celula));
+        int quantidadePersonagens = coletarPersonagens(celulasMundo, 1);
+        for (int k = 0; k < quantidadePersonagens; k++) {
+            int i = indicesRegiao[k];
+            if (armazem.isMorrendo(i))
+                continue;
+
+            int coluna = Math.floorDiv(camera.paraTelaX(armazem.getCentroX(i)), celula) - colunaInicial;
+            int linha = Math.floorDiv(camera.paraTelaY(armazem.getCentroY(i)), celula) - linhaInicial;
+            if (coluna >= 0 && coluna < colunas && linha >= 0 && linha < linhas) {
+                contagem[linha * colunas + coluna]++;
+            }
+        }
+
+        Color[] paleta = obterPaletaMapaCalor();
+        for (int linha = 0; linha < linhas; linha++) {
+            for (int coluna = 0; coluna < colunas; coluna++) {
+                int quantidade = contagem[linha * colunas + coluna];
+                if (quantidade > 0) {
+                    g2d.setColor(paleta[Math.min(quantidade, paleta.length - 1)]);
+                    g2d.fillRect((colunaInicial + coluna) * celula, (linhaInicial + linha) * celula, celula, celula);
+                }
+            }
+        }
     }
 
     /**
-     * Movimenta apenas os cavaleiros.
+     * Reúne em {@link #indicesRegiao}, em ordem de índice (a ordem de desenho),
+     * os personagens cujo centro está na área expandida pela margem. A grade
+     * pode devolver alguns a mais; o teste exato fica com quem desenha.
      *
-     * @param direcao direção para movimentar
+     * @param areaMundo área em coordenadas do mundo
+     * @param margem    distância máxima entre o centro e o que o personagem desenha
+     * @return quantidade de índices reunidos
      */
-    public void movimentarCavaleiros(Direcao direcao) {
-        this.personagens.stream()
-                .filter(p -> p instanceof Cavaleiro)
-                .forEach(p -> p.mover(direcao, this.getWidth(), this.getHeight()));
-        this.repaint();
+    private int coletarPersonagens(Rectangle areaMundo, int margem) {
+        quantidadeRegiao = 0;
+        gradePersonagens.consultar(areaMundo.x - margem, areaMundo.y - margem,
+                areaMundo.x + areaMundo.width + margem, areaMundo.y + areaMundo.height + margem, coletorRegiao);
+        Arrays.sort(indicesRegiao, 0, quantidadeRegiao);
+        return quantidadeRegiao;
+    }
+
+    private void adicionarIndiceRegiao(Personagem personagem) {
+        if (quantidadeRegiao == indicesRegiao.length) {
+            indicesRegiao = Arrays.copyOf(indicesRegiao, quantidadeRegiao * 2);
+        }
+        indicesRegiao[quantidadeRegiao++] = personagem.getIndice();
     }
 
     /**
-     * Altera o estado de ataque de todos os personagens.
-     * Cavaleiros e arqueiros aplicam dano a todos os outros personagens.
+     * Retorna a versão opaca de uma cor de aura (usada na cobertura e nos pontos).
      */
-    public void atacarPersonagens() {
-        // Coleta todos os atacantes (qualquer personagem com ataque > 0)
-        List<Personagem> atacantes = this.personagens.stream()
-                .filter(p -> p.getAtaque() > 0)
-                .collect(Collectors.toList());
+    private Color obterCorOpaca(Color cor) {
+        return coresOpacas.computeIfAbsent(cor, c -> new Color(c.getRed(), c.getGreen(), c.getBlue()));
+    }
 
-        // Cada atacante aplica dano a todos os outros personagens (exceto a si mesmo)
-        for (Personagem atacante : atacantes) {
-            atacante.atacar();
-            aplicarDanoAosAlvos(atacante);
+    /**
+     * Retorna a paleta do mapa de calor: de amarelo translúcido (1 personagem)
+     * a vermelho opaco (saturação).
+     */
+    private Color[] obterPaletaMapaCalor() {
+        if (paletaMapaCalor == null) {
+            int saturacao = Constantes.Detalhe.SATURACAO_MAPA_CALOR;
+            paletaMapaCalor = new Color[saturacao + 1];
+            for (int i = 1; i <= saturacao; i++) {
+                float t = (float) i / saturacao;
+                paletaMapaCalor[i] = new Color(255, (int) (220 * (1 - t)), 0, (int) (80 + 175 * t));
+            }
         }
-
-        removerPersonagensMortos();
-        this.repaint();
+        return paletaMapaCalor;
     }
 
     /**
-     * Faz todos os aldeões atacarem todos os outros personagens.
+     * Reavalia o nível de detalhe e, se ele mudar, marca a tela inteira como suja.
      */
-    public void atacarAldeoes() {
-        List<Personagem> aldeoes = this.personagens.stream()
-                .filter(p -> p instanceof Aldeao)
-                .collect(Collectors.toList());
-
-        for (Personagem aldeao : aldeoes) {
-            aldeao.atacar();
-            aplicarDanoAosAlvos(aldeao);
+    private void atualizarNivelDetalhe() {
+        NivelDetalhe novo = politicaDetalhe.avaliar(armazem.getQuantidade(), camera.getZoom());
+        if (novo != nivelDetalhe) {
+            RegistroCombate.getInstancia().registrar(NivelRegistro.INFO, () -> "[LOD] Nível de detalhe: " + novo
+                    + " (" + armazem.getQuantidade() + " personagens, zoom "
+                    + String.format("%.2f", camera.getZoom()) + ")");
+            nivelDetalhe = novo;
+            registrarRegiaoSuja(new Rectangle(0, 0, getWidth(), getHeight()));
         }
-
-        removerPersonagensMortos();
-        this.repaint();
     }
 
     /**
-     * Faz todos os arqueiros atacarem todos os outros personagens.
+     * Retorna o nível de detalhe usado no último quadro desenhado.
+     *
+     * @return nível de detalhe ativo
      */
-    public void atacarArqueiros() {
-        List<Personagem> arqueiros = this.personagens.stream()
-                .filter(p -> p instanceof Arqueiro)
-                .collect(Collectors.toList());
+    public NivelDetalhe getNivelDetalhe() {
+        return nivelDetalhe;
+    }
 
-        for (Personagem arqueiro : arqueiros) {
-            arqueiro.atacar();
-            aplicarDanoAosAlvos(arqueiro);
+    /**
+     * Redesenha o fundo e todos os recursos na camada estática.
+     * Os recursos nunca se movem, então a camada só é refeita quando um
+     * recurso é coletado ou adicionado.
+     */
+    private void desenharCamadaEstatica() {
+        Graphics2D g2d = camadaEstatica.createGraphics();
+        g2d.setColor(Constantes.Mundo.COR_FORA_MUNDO);
+        g2d.fillRect(0, 0, camadaEstatica.getWidth(), camadaEstatica.getHeight());
+
+        // Apenas o mundo visível é desenhado
+        Rectangle areaVisivel = camera.getAreaVisivel();
+        g2d.transform(camera.getTransformacao());
+        g2d.setColor(getBackground());
+        g2d.fillRect(0, 0, Constantes.Mundo.LARGURA, Constantes.Mundo.ALTURA);
+
+        for (Recurso recurso : motor.getRecursos()) {
+            if (recurso.getLimites().intersects(areaVisivel)) {
+                recurso.desenhar(g2d, this);
+            }
         }
 
-        removerPersonagensMortos();
-        this.repaint();
+        g2d.dispose();
+        camadaEstaticaValida = true;
     }
 
     /**
-     * Faz todos os cavaleiros atacarem todos os outros personagens.
+     * Cria uma imagem opaca do tamanho da tela no formato nativo.
      */
-    public void atacarCavaleiros() {
-        List<Personagem> cavaleiros = this.personagens.stream()
-                .filter(p -> p instanceof Cavaleiro)
-                .collect(Collectors.toList());
-
-        for (Personagem cavaleiro : cavaleiros) {
-            cavaleiro.atacar();
-            aplicarDanoAosAlvos(cavaleiro);
+    private BufferedImage criarQuadro() {
+        GraphicsConfiguration configuracao = getGraphicsConfiguration();
+        if (configuracao != null) {
+            return configuracao.createCompatibleImage(getWidth(), getHeight());
         }
+        return new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_RGB);
+    }
 
-        removerPersonagensMortos();
-        this.repaint();
+    /**
+     * Marca uma região do mundo como suja, para ser redesenhada no próximo paint.
+     * Regiões que se sobrepõem são unidas; se houver regiões demais, a tela
+     * inteira é marcada.
+     *
+     * @param regiaoMundo região afetada, em coordenadas do mundo
+     */
+    private void marcarSujo(Rectangle regiaoMundo) {
+        marcarSujoTela(camera.paraTela(regiaoMundo));
     }
 
     /**
-     * Aplica dano do atacante aos personagens que estão dentro do alcance.
-     * Usa a distância entre os centros dos personagens para verificar o alcance.
+     * Marca uma região da tela como suja.
      *
-     * @param atacante personagem que está atacando
-     */
-    private void aplicarDanoAosAlvos(Personagem atacante) {
-        int dano = atacante.getAtaque();
-        int alcance = atacante.getAlcanceAtaque();
-
-        this.personagens.stream()
-                .filter(alvo -> alvo != atacante) // Não ataca a si mesmo
-                .filter(alvo -> atacante.estaNoAlcance(alvo)) // Só ataca se estiver no alcance
-                .forEach(alvo -> {
-                    alvo.sofrerDano(dano);
-                    System.out.println("[ATAQUE] " + atacante.getClass().getSimpleName() +
-                            " causou " + dano + " de dano em " + alvo.getClass().getSimpleName() +
-                            " (distância: " + String.format("%.1f", atacante.calcularDistancia(alvo)) +
-                            "px, alcance: " + alcance + "px)");
-                });
+     * @param regiao região afetada, em pixels da tela
+     */
+    private void marcarSujoTela(Rectangle regiao) {
+        repaint(regiao.x, regiao.y, regiao.width, regiao.height);
     }
 
     /**
-     * Inicia o processo de remoção dos personagens mortos com efeito de fade-out.
-     * Os personagens que estão morrendo terão sua opacidade reduzida gradualmente.
+     * Marca a tela inteira como suja.
      */
-    private void removerPersonagensMortos() {
-        // Verifica se há personagens morrendo
-        boolean temMorrendo = this.personagens.stream().anyMatch(Personagem::estaMorrendo);
+    private void marcarTudoSujo() {
+        repaint();
+    }
 
-        if (temMorrendo && (timerFadeOut == null || !timerFadeOut.isRunning())) {
-            timerFadeOut = new Timer(Constantes.Interface.INTERVALO_FADE, e -> {
-                boolean continuarAnimacao = false;
+    /**
+     * Retorna as regiões sujas acumuladas e esvazia a lista.
+     */
+    private List<Rectangle> drenarRegioesSujas() {
+        synchronized (regioesSujas) {
+            List<Rectangle> regioes = new ArrayList<>(regioesSujas);
+            regioesSujas.clear();
+            return regioes;
+        }
+    }
 
-                // Reduz a opacidade de todos os personagens morrendo
-                for (Personagem p : personagens) {
-                    if (p.estaMorrendo()) {
-                        if (p.reduzirOpacidade(Constantes.Interface.REDUCAO_OPACIDADE)) {
-                            continuarAnimacao = true;
-                        }
-                    }
-                }
+    /**
+     * Adiciona uma região à lista de regiões sujas, unindo-a às que se sobrepõem.
+     */
+    private void registrarRegiaoSuja(Rectangle regiao) {
+        Rectangle area = regiao.intersection(new Rectangle(0, 0, getWidth(), getHeight()));
+        if (area.isEmpty())
+            return;
 
-                // Remove personagens que desapareceram completamente e atualiza contadores
-                Iterator<Personagem> iterator = personagens.iterator();
+        synchronized (regioesSujas) {
+            boolean uniu;
+            do {
+                uniu = false;
+                Iterator<Rectangle> iterator = regioesSujas.iterator();
                 while (iterator.hasNext()) {
-                    Personagem p = iterator.next();
-                    if (p.desapareceuCompletamente()) {
-                        contabilizarBaixa(p);
+                    Rectangle existente = iterator.next();
+                    if (existente.intersects(area)) {
+                        area.add(existente);
                         iterator.remove();
-                        System.out.println("[BAIXA] " + p.getClass().getSimpleName() + " foi eliminado!");
-                        imprimirPlacar();
+                        uniu = true;
                     }
                 }
+            } while (uniu);
 
-                repaint();
-
-                // Para o timer quando não houver mais personagens morrendo
-                if (!continuarAnimacao) {
-                    ((Timer) e.getSource()).stop();
-                }
-            });
-            timerFadeOut.start();
+            if (regioesSujas.size() >= Constantes.Interface.LIMITE_REGIOES_SUJAS) {
+                regioesSujas.clear();
+                area = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            regioesSujas.add(area);
         }
     }
 
     /**
-     * Contabiliza a baixa de um personagem no contador apropriado.
-     *
-     * @param personagem personagem que foi eliminado
+     * Atualiza qual personagem está sob o mouse. As áreas do tooltip só são
+     * marcadas como sujas quando o personagem sob o mouse ou os atributos
+     * exibidos mudam; movimentos do mouse sobre o mesmo personagem não redesenham.
      */
-    private void contabilizarBaixa(Personagem personagem) {
-        if (personagem instanceof Aldeao) {
-            baixasAldeoes++;
-        } else if (personagem instanceof Arqueiro) {
-            baixasArqueiros++;
-        } else if (personagem instanceof Cavaleiro) {
-            baixasCavaleiros++;
+    private void atualizarTooltip() {
+        Personagem encontrado = mousePos != null ? buscarPersonagemSobMouse() : null;
+        if (encontrado == personagemTooltip && (encontrado == null || !atributosTooltipMudaram(encontrado)))
+            return;
+
+        if (limitesTooltip != null) {
+            marcarSujoTela(limitesTooltip);
         }
-    }
 
-    /**
-     * Imprime o placar atual de baixas no terminal.
-     */
-    private void imprimirPlacar() {
-        System.out.println("=== PLACAR DE BAIXAS ===");
-        System.out.println("Aldeões: " + baixasAldeoes);
-        System.out.println("Arqueiros: " + baixasArqueiros);
-        System.out.println("Cavaleiros: " + baixasCavaleiros);
-        System.out.println("Total: " + getTotalBaixas());
-        System.out.println("========================");
-    }
+        if (encontrado == null) {
+            personagemTooltip = null;
+            limitesTooltip = null;
+            ancoraTooltip = null;
+            linhasTooltip = null;
+            return;
+        }
 
-    /**
-     * Retorna o total de baixas de aldeões.
-     */
-    public int getBaixasAldeoes() {
-        return baixasAldeoes;
+        if (encontrado != personagemTooltip) {
+            ancoraTooltip = new Point(mousePos);
+        }
+        personagemTooltip = encontrado;
+        linhasTooltip = montarLinhasTooltip(encontrado);
+        limitesTooltip = calcularLimitesTooltip(linhasTooltip, ancoraTooltip.x, ancoraTooltip.y);
+        marcarSujoTela(limitesTooltip);
     }
 
     /**
-     * Retorna o total de baixas de arqueiros.
+     * Busca, pela grade espacial, o personagem mais próximo do mouse dentro da
+     * distância de detecção. Compara distâncias ao quadrado para evitar raízes.
+     *
+     * @return personagem sob o mouse ou null
      */
-    public int getBaixasArqueiros() {
-        return baixasArqueiros;
+    private Personagem buscarPersonagemSobMouse() {
+        double mouseX = camera.paraMundoX(mousePos.x);
+        double mouseY = camera.paraMundoY(mousePos.y);
+        // A distância de detecção é em pixels da tela
+        double distanciaDeteccao = Constantes.Interface.TOOLTIP_DISTANCIA_DETECCAO / camera.getZoom();
+
+        double[] menorDistancia = {distanciaDeteccao * distanciaDeteccao};
+        Personagem[] maisProximo = new Personagem[1];
+        gradePersonagens.consultar(
+                (int) Math.floor(mouseX - distanciaDeteccao), (int) Math.floor(mouseY - distanciaDeteccao),
+                (int) Math.ceil(mouseX + distanciaDeteccao), (int) Math.ceil(mouseY + distanciaDeteccao),
+                p -> {
+                    double dx = mouseX - p.getCentroX();
+                    double dy = mouseY - p.getCentroY();
+                    double distancia = dx * dx + dy * dy;
+                    if (distancia < menorDistancia[0]) {
+                        menorDistancia[0] = distancia;
+                        maisProximo[0] = p;
+                    }
+                });
+        return maisProximo[0];
     }
 
     /**
-     * Retorna o total de baixas de cavaleiros.
+     * Verifica se algum atributo exibido no tooltip mudou desde que suas linhas
+     * foram montadas.
      */
-    public int getBaixasCavaleiros() {
-        return baixasCavaleiros;
+    private boolean atributosTooltipMudaram(Personagem p) {
+        return p.getVida() != vidaTooltip
+                || p.getAtaque() != ataqueTooltip
+                || p.getVelocidade() != velocidadeTooltip
+                || (p instanceof Cavaleiro && ((Cavaleiro) p).isMontado() != montadoTooltip);
     }
 
     /**
-     * Retorna o total geral de baixas.
+     * Monta as linhas de texto exibidas no tooltip de um personagem e guarda
+     * os atributos usados, para detectar mudanças.
      */
-    public int getTotalBaixas() {
-        return baixasAldeoes + baixasArqueiros + baixasCavaleiros;
+    private List<String> montarLinhasTooltip(Personagem p) {
+        vidaTooltip = p.getVida();
+        ataqueTooltip = p.getAtaque();
+        velocidadeTooltip = p.getVelocidade();
+
+        List<String> linhas = new ArrayList<>();
+        linhas.add("Tipo: " + p.getClass().getSimpleName());
+        linhas.add("Vida: " + vidaTooltip + "/" + p.getVidaInicial());
+        linhas.add("Ataque: " + ataqueTooltip);
+        linhas.add("Velocidade: " + velocidadeTooltip);
+
+        // Adiciona estado extra se for Cavaleiro
+        if (p instanceof Cavaleiro) {
+            Cavaleiro cavaleiro = (Cavaleiro) p;
+            montadoTooltip = cavaleiro.isMontado();
+            linhas.add("Estado: " + (montadoTooltip ? "Montado" : "Desmontado"));
+        }
+        return linhas;
     }
 
     /**
-     * Retorna a quantidade de personagens na tela.
-     *
-     * @return número total de personagens
+     * Calcula a área ocupada pelo tooltip (incluindo a borda).
      */
-    public int getQuantidadePersonagens() {
-        return this.personagens.size();
+    private Rectangle calcularLimitesTooltip(List<String> linhas, int x, int y) {
+        int altura = Constantes.Interface.TOOLTIP_ALTURA_LINHA
+                + (linhas.size() * Constantes.Interface.TOOLTIP_ALTURA_LINHA);
+        return new Rectangle(x + Constantes.Interface.TOOLTIP_PADDING_X, y + Constantes.Interface.TOOLTIP_PADDING_Y,
+                Constantes.Interface.TOOLTIP_LARGURA + 1, altura + 1);
     }
 
-    /**
-     * Alterna o estado de montaria de todos os cavaleiros.
-     * Cavaleiros montados ficam desmontados e vice-versa.
-     */
-    /**
-     * Gera recursos iniciais aleatórios no mapa.
-     */
-    private void generateInitialResources() {
-        java.util.Random rnd = new java.util.Random();
-        int padding = Constantes.Interface.PADDING_BORDAS;
+    private void desenharPainelTooltip(Graphics g, List<String> linhas, int x, int y) {
+        int largura = Constantes.Interface.TOOLTIP_LARGURA;
+        int altura = Constantes.Interface.TOOLTIP_ALTURA_LINHA
+                + (linhas.size() * Constantes.Interface.TOOLTIP_ALTURA_LINHA);
+
+        g.setColor(Constantes.Interface.TOOLTIP_COR_FUNDO);
+        g.fillRoundRect(x + Constantes.Interface.TOOLTIP_PADDING_X, y + Constantes.Interface.TOOLTIP_PADDING_Y, largura,
+                altura, 10, 10);
 
-        // Gera 5 de cada tipo
-        for (int i = 0; i < 5; i++) {
-            criarRecursoAleatorio(ifsc.joe.enums.TipoRecurso.COMIDA, rnd, padding);
-            criarRecursoAleatorio(ifsc.joe.enums.TipoRecurso.OURO, rnd, padding);
-            criarRecursoAleatorio(ifsc.joe.enums.TipoRecurso.MADEIRA, rnd, padding);
+        g.setColor(Constantes.Interface.TOOLTIP_COR_BORDA);
+        g.drawRoundRect(x + Constantes.Interface.TOOLTIP_PADDING_X, y + Constantes.Interface.TOOLTIP_PADDING_Y, largura,
+                altura, 10, 10);
+
+        int textY = y + Constantes.Interface.TOOLTIP_MARGIN_TEXTO + 5;
+        for (String linha : linhas) {
+            g.drawString(linha, x + Constantes.Interface.TOOLTIP_MARGIN_TEXTO, textY);
+            textY += Constantes.Interface.TOOLTIP_ALTURA_LINHA;
         }
     }
 
-    private void criarRecursoAleatorio(ifsc.joe.enums.TipoRecurso tipo, java.util.Random rnd, int padding) {
-        // Simples geração, pode sobrepor, mas ok para este mvp
-        // Assumindo um tamanho padrão de tela inicial se getWidth for 0 ainda
-        int w = this.getWidth() > 0 ? this.getWidth() : 800;
-        int h = this.getHeight() > 0 ? this.getHeight() : 600;
+    /**
+     * Quadro do modo por repaint: avança o motor nos passos fixos devidos
+     * desde o último quadro e interpola o desenho pelo tempo restante.
+     */
+    private void avancarQuadro() {
+        long agora = System.nanoTime();
+        if (ultimoQuadroNanos == 0) {
+            ultimoQuadroNanos = agora;
+        }
+        acumuladoNanos += agora - ultimoQuadroNanos;
+        ultimoQuadroNanos = agora;
 
-        int x = rnd.nextInt(Math.max(1, w - padding * 2)) + padding;
-        int y = rnd.nextInt(Math.max(1, h - padding * 2)) + padding;
+        long passoNanos = NANOS_POR_SEGUNDO / Constantes.Geral.TICKS_POR_SEGUNDO;
+        int passos = (int) Math.min(acumuladoNanos / passoNanos, Constantes.Geral.MAX_TICKS_POR_QUADRO);
+        acumuladoNanos = passos == Constantes.Geral.MAX_TICKS_POR_QUADRO ? 0 : acumuladoNanos - passos * passoNanos;
 
-        this.recursos.add(new ifsc.joe.domain.Recurso(tipo, x, y));
+        for (int i = 0; i < passos; i++) {
+            avancarSimulacao();
+        }
+        interpolar((float) acumuladoNanos / passoNanos);
     }
 
-    public int getEstoqueComida() {
-        return estoqueComida;
-    }
+    /**
+     * Define a fração do passo atual já decorrida e marca como sujas as áreas
+     * dos personagens que se moveram, para que sejam redesenhados no ponto
+     * interpolado. Sem movimento no passo, não percorre os personagens.
+     * Nos níveis de pontos e mapa de calor o desenho não é interpolado.
+     *
+     * @param alfa de 0 (posição no início do passo) a 1 (posição atual)
+     */
+    public void interpolar(float alfa) {
+        alfaInterpolacao = Math.min(Math.max(alfa, 0f), 1f);
+        if (!armazem.isMovidoNoPasso() || nivelDetalhe == NivelDetalhe.PONTOS
+                || nivelDetalhe == NivelDetalhe.MAPA_CALOR)
+            return;
 
-    public int getEstoqueOuro() {
-        return estoqueOuro;
+        for (int i = 0; i < armazem.getQuantidade(); i++) {
+            if (armazem.isMovido(i)) {
+                marcarSujo(armazem.getLimitesMovimento(i));
+            }
+        }
     }
 
-    public int getEstoqueMadeira() {
-        return estoqueMadeira;
+    /**
+     * Avança o motor em um passo fixo de tempo e, se o mundo mudou, atualiza o tooltip.
+     * Chamado pelo timer da Tela no modo por repaint e pelo {@link LoopJogo}
+     * no modo de renderização ativa, sempre na EDT.
+     */
+    public void avancarSimulacao() {
+        // Quem se moveu no passo que termina é redesenhado na posição final
+        interpolar(1f);
+        if (motor.avancar()) {
+            atualizarTooltip();
+        }
     }
 
-    public void adicionarEstoque(ifsc.joe.enums.TipoRecurso tipo, int quantidade) {
-        switch (tipo) {
-            case COMIDA -> this.estoqueComida += quantidade;
-            case OURO -> this.estoqueOuro += quantidade;
-            case MADEIRA -> this.estoqueMadeira += quantidade;
+    /**
+     * Inicia o timer da simulação quando a Tela passa a ser exibida.
+     * Fora de uma janela (ex: {@link RenderizadorOffscreen}) quem avança o motor é o chamador.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (!renderizacaoAtiva) {
+            ultimoQuadroNanos = 0;
+            timerSimulacao.start();
         }
     }
 
-    public void coletarRecursosProximos() {
-        Iterator<Recurso> itRecursos = recursos.iterator();
-        while (itRecursos.hasNext()) {
-            Recurso r = itRecursos.next();
-
-            // Procura algum aldeão proximo
-            for (Personagem p : personagens) {
-                if (p instanceof ifsc.joe.interfaces.Coletador) {
-                    double dist = Math.sqrt(Math.pow(p.getCentroX() - r.getCentroX(), 2) +
-                            Math.pow(p.getCentroY() - r.getCentroY(), 2));
+    @Override
+    public void removeNotify() {
+        timerSimulacao.stop();
+        super.removeNotify();
+    }
 
-                    // Distância de coleta (ex: 50px)
-                    if (dist <= 50) {
-                        ((ifsc.joe.interfaces.Coletador) p).coletar(r);
-                        adicionarEstoque(r.getTipo(), r.getQuantidade());
-                        itRecursos.remove(); // Remove do mapa
-                        GerenciadorAudio.getInstancia().tocarSom("collect.wav"); // Som genérico se houver
-                        break; // Recurso coletado por um, não precisa ver outros
-                    }
-                }
+    /**
+     * Habilita ou desabilita o modo de renderização ativa.
+     * No modo ativo os quadros são desenhados e a simulação é avançada pelo
+     * {@link LoopJogo}, e as chamadas a repaint() apenas registram regiões sujas.
+     *
+     * @param ativa true para o modo ativo, false para o modo por repaint
+     */
+    public void setRenderizacaoAtiva(boolean ativa) {
+        this.renderizacaoAtiva = ativa;
+        this.setIgnoreRepaint(ativa);
+        if (ativa) {
+            timerSimulacao.stop();
+        } else {
+            if (isDisplayable()) {
+                ultimoQuadroNanos = 0;
+                timerSimulacao.start();
             }
+            marcarTudoSujo();
         }
-        repaint();
     }
 
-    public void adicionarRecurso(Recurso r) {
-        this.recursos.add(r);
-        repaint();
+    /**
+     * Registra a área como região suja. No modo de renderização ativa o pedido
+     * não é repassado ao Swing, já que o {@link LoopJogo} desenha a cada quadro.
+     */
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+        // Chamado pelo construtor de JComponent antes da inicialização dos campos
+        if (regioesSujas == null)
+            return;
+
+        registrarRegiaoSuja(new Rectangle(x, y, width, height));
+        if (renderizacaoAtiva)
+            return;
+        super.repaint(tm, x, y, width, height);
     }
 
-    public Set<Recurso> getRecursos() {
-        return recursos;
+    /**
+     * Retorna o motor de simulação desenhado por esta Tela.
+     * Comandos do jogador (criar, mover, atacar...) devem ser enviados a ele.
+     */
+    public MotorSimulacao getMotor() {
+        return motor;
     }
 
-    public void alternarMontariaCavaleiros() {
-        this.personagens.stream()
-                .filter(p -> p instanceof Cavaleiro)
-                .map(p -> (Cavaleiro) p)
-                .forEach(Cavaleiro::alternarMontado);
-        this.repaint();
+    /**
+     * Retorna a área do mundo atualmente visível pela câmera.
+     *
+     * @return retângulo em coordenadas do mundo
+     */
+    public Rectangle getAreaVisivel() {
+        return camera.getAreaVisivel().intersection(
+                new Rectangle(0, 0, Constantes.Mundo.LARGURA, Constantes.Mundo.ALTURA));
     }
 }
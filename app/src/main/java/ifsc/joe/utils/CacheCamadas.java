@@ -0,0 +1,125 @@
+package ifsc.joe.utils;
+
+import ifsc.joe.config.Constantes;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache global de camadas visuais pré-renderizadas dos personagens.
+ * Auras de alcance são desenhadas uma única vez por combinação de alcance e cor,
+ * e barras de vida são geradas para um conjunto fixo de níveis de preenchimento.
+ * Assim, desenhar um personagem se resume a poucas chamadas de drawImage.
+ */
+public final class CacheCamadas {
+
+    private static final CacheCamadas INSTANCIA = new CacheCamadas();
+
+    // Chave: alcance nos 32 bits altos e RGBA da cor nos 32 bits baixos
+    private final Map<Long, BufferedImage> auras;
+    private final BufferedImage[] barrasVida;
+
+    private CacheCamadas() {
+        this.auras = new ConcurrentHashMap<>();
+        this.barrasVida = new BufferedImage[Constantes.Interface.BARRA_VIDA_NIVEIS + 1];
+        for (int nivel = 0; nivel < barrasVida.length; nivel++) {
+            barrasVida[nivel] = renderizarBarraVida(nivel);
+        }
+    }
+
+    public static CacheCamadas getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Retorna a imagem da aura de alcance, renderizando-a na primeira chamada.
+     * A imagem tem o centro do círculo no centro da imagem e uma margem de
+     * {@link #getMargemAura()} pixels para acomodar a borda.
+     *
+     * @param alcance raio da aura em pixels
+     * @param cor     cor de preenchimento (a borda usa a mesma cor, mais opaca)
+     * @return imagem translúcida da aura
+     */
+    public BufferedImage obterAura(int alcance, Color cor) {
+        long chave = ((long) alcance << 32) | (cor.getRGB() & 0xFFFFFFFFL);
+        return auras.computeIfAbsent(chave, c -> renderizarAura(alcance, cor));
+    }
+
+    /**
+     * Retorna a margem, em pixels, entre a borda da imagem da aura e o círculo.
+     */
+    public int getMargemAura() {
+        return (int) Math.ceil(Constantes.Interface.AURA_ESPESSURA_BORDA);
+    }
+
+    /**
+     * Retorna a barra de vida pré-renderizada mais próxima da porcentagem informada.
+     * O nível é arredondado para cima, de modo que um personagem vivo sempre
+     * exibe ao menos um nível preenchido.
+     *
+     * @param porcentagemVida vida atual dividida pela vida inicial (0.0 a 1.0)
+     * @return imagem da barra de vida com borda
+     */
+    public BufferedImage obterBarraVida(float porcentagemVida) {
+        int niveis = Constantes.Interface.BARRA_VIDA_NIVEIS;
+        int nivel = (int) Math.ceil(porcentagemVida * niveis);
+        return barrasVida[Math.min(Math.max(0, nivel), niveis)];
+    }
+
+    /**
+     * Desenha o círculo preenchido e a borda da aura em uma imagem translúcida.
+     */
+    private BufferedImage renderizarAura(int alcance, Color cor) {
+        int margem = getMargemAura();
+        int tamanho = alcance * 2 + margem * 2 + 1;
+        BufferedImage imagem = CacheSprites.criarImagemCompativel(tamanho, tamanho);
+
+        Graphics2D g2d = imagem.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        // Círculo preenchido (área de alcance)
+        g2d.setColor(cor);
+        g2d.fillOval(margem, margem, alcance * 2, alcance * 2);
+
+        // Borda do círculo
+        g2d.setColor(new Color(cor.getRed(), cor.getGreen(), cor.getBlue(), Constantes.Interface.AURA_ALFA_BORDA));
+        g2d.setStroke(new BasicStroke(Constantes.Interface.AURA_ESPESSURA_BORDA));
+        g2d.drawOval(margem, margem, alcance * 2, alcance * 2);
+
+        g2d.dispose();
+        return imagem;
+    }
+
+    /**
+     * Desenha uma barra de vida para o nível informado.
+     * Cor muda conforme a porcentagem de vida:
+     * - Verde: > 75%
+     * - Amarelo: 25% - 75%
+     * - Vermelho: <= 25%
+     */
+    private BufferedImage renderizarBarraVida(int nivel) {
+        int largura = Constantes.Interface.BARRA_VIDA_LARGURA;
+        int altura = Constantes.Interface.BARRA_VIDA_ALTURA;
+        float pVida = (float) nivel / Constantes.Interface.BARRA_VIDA_NIVEIS;
+
+        BufferedImage imagem = CacheSprites.criarImagemCompativel(largura + 1, altura + 1);
+        Graphics2D g2d = imagem.createGraphics();
+
+        if (pVida > 0.75f) {
+            g2d.setColor(Color.GREEN);
+        } else if (pVida > 0.25f) {
+            g2d.setColor(Color.YELLOW);
+        } else {
+            g2d.setColor(Color.RED);
+        }
+        g2d.fillRect(0, 0, (int) (largura * pVida), altura);
+
+        g2d.setColor(Color.BLACK);
+        g2d.drawRect(0, 0, largura, altura);
+
+        g2d.dispose();
+        return imagem;
+    }
+}
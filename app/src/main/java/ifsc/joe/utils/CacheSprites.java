@@ -0,0 +1,190 @@
+package ifsc.joe.utils;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache global de sprites do jogo.
+ * Cada imagem é decodificada uma única vez e convertida para um formato
+ * compatível com a tela, evitando reler os PNGs do classpath a cada quadro.
+ */
+public final class CacheSprites {
+
+    private static final CacheSprites INSTANCIA = new CacheSprites();
+    private static final long ASSINATURA_PNG = 0x89504E470D0A1A0AL;
+    private static final int BLOCO_IHDR = 0x49484452; // "IHDR"
+
+    // Optional vazio registra sprites inexistentes, evitando novas buscas no classpath
+    private final Map<String, Optional<BufferedImage>> sprites;
+    // Largura e altura lidas do cabeçalho do PNG, sem decodificar a imagem
+    private final Map<String, Optional<Dimension>> tamanhos;
+
+    // Contadores de desempenho
+    private final AtomicLong acertos;
+    private final AtomicLong falhas;
+    private final AtomicLong tempoCarregamentoNanos;
+
+    private CacheSprites() {
+        this.sprites = new ConcurrentHashMap<>();
+        this.tamanhos = new ConcurrentHashMap<>();
+        this.acertos = new AtomicLong();
+        this.falhas = new AtomicLong();
+        this.tempoCarregamentoNanos = new AtomicLong();
+    }
+
+    public static CacheSprites getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Retorna o sprite com o nome informado, carregando-o na primeira chamada.
+     *
+     * @param nome nome da imagem (sem extensão)
+     * @return imagem compatível com a tela, ou null se o arquivo não existir
+     */
+    public BufferedImage obter(String nome) {
+        Optional<BufferedImage> sprite = sprites.get(nome);
+        if (sprite != null) {
+            acertos.incrementAndGet();
+            return sprite.orElse(null);
+        }
+        return sprites.computeIfAbsent(nome, this::carregar).orElse(null);
+    }
+
+    /**
+     * Retorna o tamanho do sprite sem decodificá-lo: basta o cabeçalho do PNG.
+     * Permite ao motor da simulação posicionar personagens sem carregar imagens.
+     *
+     * @param nome nome da imagem (sem extensão)
+     * @return largura e altura do sprite, ou null se o arquivo não existir
+     */
+    public Dimension obterTamanho(String nome) {
+        return tamanhos.computeIfAbsent(nome, this::lerTamanho).orElse(null);
+    }
+
+    /**
+     * Lê largura e altura do bloco IHDR, que todo PNG traz logo após a assinatura.
+     */
+    private Optional<Dimension> lerTamanho(String nome) {
+        try (InputStream entrada = PacoteAssets.getInstancia().abrirArquivo(nome + ".png")) {
+            if (entrada == null) {
+                return Optional.empty();
+            }
+            DataInputStream dados = new DataInputStream(entrada);
+            // Assinatura (8 bytes), tamanho do bloco (4) e tipo "IHDR" (4)
+            if (dados.readLong() != ASSINATURA_PNG) {
+                throw new IOException("não é um PNG");
+            }
+            dados.readInt();
+            if (dados.readInt() != BLOCO_IHDR) {
+                throw new IOException("cabeçalho IHDR ausente");
+            }
+            return Optional.of(new Dimension(dados.readInt(), dados.readInt()));
+        } catch (IOException e) {
+            System.err.println("[SPRITE] Erro ao ler o tamanho de " + nome + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Lê o PNG (do pacote de assets ou do classpath) e converte para uma imagem compatível com a tela.
+     *
+     * @param nome nome da imagem (sem extensão)
+     * @return imagem carregada, ou vazio se não existir ou não puder ser lida
+     */
+    private Optional<BufferedImage> carregar(String nome) {
+        falhas.incrementAndGet();
+        long inicio = System.nanoTime();
+        try (InputStream entrada = PacoteAssets.getInstancia().abrirArquivo(nome + ".png")) {
+            if (entrada == null) {
+                return Optional.empty();
+            }
+            BufferedImage original = ImageIO.read(entrada);
+            return Optional.ofNullable(original).map(CacheSprites::converterParaCompativel);
+        } catch (IOException e) {
+            System.err.println("[SPRITE] Erro ao carregar " + nome + ": " + e.getMessage());
+            return Optional.empty();
+        } finally {
+            tempoCarregamentoNanos.addAndGet(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Copia a imagem para o formato nativo da tela, permitindo que o Java2D
+     * a mantenha acelerada em memória de vídeo.
+     *
+     * @param original imagem decodificada do PNG
+     * @return cópia em formato compatível
+     */
+    private static BufferedImage converterParaCompativel(BufferedImage original) {
+        BufferedImage compativel = criarImagemCompativel(original.getWidth(), original.getHeight());
+        Graphics2D g2d = compativel.createGraphics();
+        g2d.drawImage(original, 0, 0, null);
+        g2d.dispose();
+        return compativel;
+    }
+
+    /**
+     * Cria uma imagem translúcida vazia no formato nativo da tela.
+     * Em modo headless utiliza ARGB pré-multiplicado.
+     *
+     * @param largura largura em pixels
+     * @param altura  altura em pixels
+     * @return imagem compatível com a tela
+     */
+    public static BufferedImage criarImagemCompativel(int largura, int altura) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(largura, altura, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(largura, altura, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Retorna quantas vezes um sprite já carregado foi reaproveitado.
+     */
+    public long getAcertos() {
+        return acertos.get();
+    }
+
+    /**
+     * Retorna quantas vezes foi necessário carregar um sprite do classpath.
+     */
+    public long getFalhas() {
+        return falhas.get();
+    }
+
+    /**
+     * Retorna o tempo total gasto carregando sprites, em milissegundos.
+     */
+    public double getTempoCarregamentoMs() {
+        return tempoCarregamentoNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Retorna a quantidade de sprites armazenados no cache.
+     */
+    public int getQuantidadeSprites() {
+        return sprites.size();
+    }
+
+    /**
+     * Monta um resumo textual dos contadores do cache.
+     *
+     * @return texto com acertos, falhas e tempo de carregamento
+     */
+    public String gerarRelatorio() {
+        return String.format("[SPRITE] %d sprites | acertos: %d | falhas: %d | carregamento: %.2fms",
+                getQuantidadeSprites(), getAcertos(), getFalhas(), getTempoCarregamentoMs());
+    }
+}
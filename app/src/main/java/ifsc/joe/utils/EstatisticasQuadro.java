@@ -0,0 +1,97 @@
+package ifsc.joe.utils;
+
+/**
+ * Acumula estatísticas de tempo de quadro em uma janela deslizante.
+ * Os tempos são registrados pela thread do loop de jogo e podem ser
+ * consultados por qualquer outra thread.
+ */
+public class EstatisticasQuadro {
+
+    private final long[] duracoesNanos;
+    private int proximo;
+    private int quantidade;
+    private long totalQuadros;
+
+    /**
+     * @param tamanhoJanela quantidade de quadros considerados nas estatísticas
+     */
+    public EstatisticasQuadro(int tamanhoJanela) {
+        this.duracoesNanos = new long[tamanhoJanela];
+    }
+
+    /**
+     * Registra a duração de um quadro.
+     *
+     * @param duracaoNanos tempo gasto no quadro, em nanossegundos
+     */
+    public synchronized void registrar(long duracaoNanos) {
+        duracoesNanos[proximo] = duracaoNanos;
+        proximo = (proximo + 1) % duracoesNanos.length;
+        quantidade = Math.min(quantidade + 1, duracoesNanos.length);
+        totalQuadros++;
+    }
+
+    /**
+     * Retorna o tempo médio de quadro na janela, em milissegundos.
+     */
+    public synchronized double getMediaMs() {
+        if (quantidade == 0)
+            return 0;
+
+        long soma = 0;
+        for (int i = 0; i < quantidade; i++) {
+            soma += duracoesNanos[i];
+        }
+        return soma / (quantidade * 1_000_000.0);
+    }
+
+    /**
+     * Retorna o menor tempo de quadro na janela, em milissegundos.
+     */
+    public synchronized double getMinimoMs() {
+        if (quantidade == 0)
+            return 0;
+
+        long minimo = Long.MAX_VALUE;
+        for (int i = 0; i < quantidade; i++) {
+            minimo = Math.min(minimo, duracoesNanos[i]);
+        }
+        return minimo / 1_000_000.0;
+    }
+
+    /**
+     * Retorna o maior tempo de quadro na janela, em milissegundos.
+     */
+    public synchronized double getMaximoMs() {
+        long maximo = 0;
+        for (int i = 0; i < quantidade; i++) {
+            maximo = Math.max(maximo, duracoesNanos[i]);
+        }
+        return maximo / 1_000_000.0;
+    }
+
+    /**
+     * Retorna a taxa de quadros equivalente ao tempo médio de quadro.
+     */
+    public synchronized double getQuadrosPorSegundo() {
+        double media = getMediaMs();
+        return media > 0 ? 1000.0 / media : 0;
+    }
+
+    /**
+     * Retorna o total de quadros registrados desde a criação.
+     */
+    public synchronized long getTotalQuadros() {
+        return totalQuadros;
+    }
+
+    /**
+     * Monta um resumo textual das estatísticas atuais.
+     *
+     * @return texto com média, mínimo, máximo e taxa de quadros
+     */
+    public synchronized String gerarRelatorio() {
+        return String.format("%.0f fps | média %.2fms | mín %.2fms | máx %.2fms",
+                getQuadrosPorSegundo(), getMediaMs(), getMinimoMs(), getMaximoMs());
+    }
+}
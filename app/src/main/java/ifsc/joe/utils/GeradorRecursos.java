@@ -0,0 +1,51 @@
+package ifsc.joe.utils;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.domain.ModeloRecurso;
+import ifsc.joe.domain.Recurso;
+import ifsc.joe.enums.TipoRecurso;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Gera os recursos espalhados pelo mundo no início do jogo.
+ */
+public final class GeradorRecursos {
+
+    private GeradorRecursos() {
+    }
+
+    /**
+     * Gera a mesma quantidade de recursos de cada tipo em posições aleatórias
+     * do mundo, respeitando o padding das bordas.
+     * Os modelos de cada tipo são obtidos uma única vez e compartilhados.
+     *
+     * @param quantidadePorTipo quantidade de recursos de cada tipo
+     * @param rnd               gerador das posições
+     * @return recursos gerados
+     */
+    public static List<Recurso> gerar(int quantidadePorTipo, Random rnd) {
+        TipoRecurso[] tipos = TipoRecurso.values();
+        ModeloRecurso[] modelos = new ModeloRecurso[tipos.length];
+        for (int i = 0; i < tipos.length; i++) {
+            modelos[i] = ModeloRecurso.de(tipos[i]);
+        }
+
+        int padding = Constantes.Interface.PADDING_BORDAS;
+        int largura = Math.max(1, Constantes.Mundo.LARGURA - padding * 2);
+        int altura = Math.max(1, Constantes.Mundo.ALTURA - padding * 2);
+
+        List<Recurso> recursos = new ArrayList<>(quantidadePorTipo * tipos.length);
+        for (int i = 0; i < quantidadePorTipo; i++) {
+            for (ModeloRecurso modelo : modelos) {
+                // Simples geração, pode sobrepor, mas ok para este mvp
+                int x = rnd.nextInt(largura) + padding;
+                int y = rnd.nextInt(altura) + padding;
+                recursos.add(new Recurso(modelo, x, y));
+            }
+        }
+        return recursos;
+    }
+}
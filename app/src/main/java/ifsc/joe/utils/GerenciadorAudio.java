@@ -1,69 +1,104 @@
 package ifsc.joe.utils;
 
-import javax.sound.sampled.*;
-import java.io.IOException;
-import java.net.URL;
+import ifsc.joe.audio.AudioGravado;
+import ifsc.joe.audio.AudioSilencioso;
+import ifsc.joe.audio.DestinoAudio;
+import ifsc.joe.audio.MixerAudio;
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.TipoSom;
+
+import java.util.Locale;
 
 /**
  * Classe utilitária para gerenciar efeitos sonoros do jogo.
- * Responsável por carregar e tocar arquivos de áudio.
+ * <p>
+ * Encaminha os sons ao {@link DestinoAudio} escolhido na inicialização por
+ * -Djoe.audio: mixer (padrão, toca de verdade), silencioso (não toca em
+ * nada do sistema de áudio) ou gravacao (só conta os sons por tipo).
+ * Execuções sem interface podem trocar o destino com {@link #setDestino(DestinoAudio)}
+ * antes de registrar os consumidores de eventos.
  */
 public class GerenciadorAudio {
 
     private static GerenciadorAudio instancia;
 
-    private GerenciadorAudio() {
+    private volatile DestinoAudio destino;
+
+    private GerenciadorAudio(DestinoAudio destino) {
         // Construtor privado para Singleton
+        this.destino = destino;
     }
 
-    public static GerenciadorAudio getInstancia() {
+    public static synchronized GerenciadorAudio getInstancia() {
         if (instancia == null) {
-            instancia = new GerenciadorAudio();
+            instancia = new GerenciadorAudio(criarDestino(
+                    System.getProperty(Constantes.Audio.PROPRIEDADE_DESTINO, Constantes.Audio.DESTINO_MIXER)));
         }
         return instancia;
     }
 
     /**
-     * Toca um efeito sonoro.
-     * O arquivo deve estar na pasta resources (raiz ou subpastas).
+     * Cria o destino de áudio pelo nome (mixer, silencioso ou gravacao).
+     * Nomes desconhecidos usam o mixer.
      *
-     * @param nomeArquivo nome do arquivo de áudio (ex: "ataque.wav")
+     * @param nome nome do destino, sem diferenciar maiúsculas
+     * @return novo destino
      */
-    public void tocarSom(String nomeArquivo) {
-        new Thread(() -> {
-            try {
-                URL url = getClass().getClassLoader().getResource(nomeArquivo);
-                if (url == null) {
-                    System.err.println("[AUDIO] Arquivo não encontrado: " + nomeArquivo);
-                    return;
-                }
+    public static DestinoAudio criarDestino(String nome) {
+        return switch (nome.toLowerCase(Locale.ROOT)) {
+            case Constantes.Audio.DESTINO_SILENCIOSO -> new AudioSilencioso();
+            case Constantes.Audio.DESTINO_GRAVACAO -> new AudioGravado();
+            case Constantes.Audio.DESTINO_MIXER -> new MixerAudio();
+            default -> {
+                System.err.println("[AUDIO] Destino de áudio desconhecido '" + nome + "', usando o mixer");
+                yield new MixerAudio();
+            }
+        };
+    }
 
-                // Usa BufferedInputStream para garantir suporte a mark/reset
-                // Isso resolve a maioria dos erros de "URL of unsupported format" quando lendo
-                // de JARs ou recursos
-                java.io.InputStream audioSrc = url.openStream();
-                java.io.InputStream bufferedIn = new java.io.BufferedInputStream(audioSrc);
+    /**
+     * Prepara um som do destino atual (no mixer, decodifica o arquivo).
+     * Pode ser chamado em paralelo para sons diferentes.
+     *
+     * @param som efeito a preparar
+     */
+    public void carregarSom(TipoSom som) {
+        destino.carregarSom(som);
+    }
 
-                AudioInputStream audioIn = AudioSystem.getAudioInputStream(bufferedIn);
-                Clip clip = AudioSystem.getClip();
-                clip.open(audioIn);
+    /**
+     * Prepara os sons do destino atual, um de cada vez.
+     */
+    public void carregarSons() {
+        destino.carregarSons();
+    }
 
-                // Listener para fechar o stream liberar recursos ao terminar
-                clip.addLineListener(event -> {
-                    if (event.getType() == LineEvent.Type.STOP) {
-                        clip.close();
-                    }
-                });
+    /**
+     * Pede um efeito sonoro ao destino atual. Não bloqueia.
+     *
+     * @param som efeito a tocar
+     */
+    public void tocarSom(TipoSom som) {
+        destino.tocarSom(som);
+    }
 
-                clip.start();
-            } catch (UnsupportedAudioFileException e) {
-                System.err.println("[AUDIO] Formato inválido para " + nomeArquivo + ": " + e.getMessage());
-                System.err.println("Certifique-se de usar arquivos .WAV PCM 16-bit (não MP3 renomeados).");
-            } catch (IOException | LineUnavailableException e) {
-                System.err.println("[AUDIO] Erro ao tocar " + nomeArquivo + ": " + e.getMessage());
-            } catch (Exception e) {
-                System.err.println("[AUDIO] Erro inesperado: " + e.getMessage());
-            }
-        }).start();
+    public DestinoAudio getDestino() {
+        return destino;
+    }
+
+    /**
+     * Troca o destino dos sons. Sons já pedidos ao destino anterior continuam com ele.
+     *
+     * @param destino novo destino
+     */
+    public void setDestino(DestinoAudio destino) {
+        this.destino = destino;
+    }
+
+    /**
+     * Gera um resumo de uma linha com os contadores do destino atual.
+     */
+    public String gerarRelatorio() {
+        return destino.gerarRelatorio();
     }
 }
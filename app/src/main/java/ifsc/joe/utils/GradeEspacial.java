@@ -0,0 +1,147 @@
+package ifsc.joe.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Grade uniforme que indexa elementos pela posição no mundo.
+ * Consultas por área percorrem apenas as células que a intersectam, em vez
+ * de todos os elementos. Posições fora do mundo são presas à borda da grade.
+ * <p>
+ * A grade não conhece a posição dos elementos: quem os move deve chamar
+ * {@link #atualizar(Object, int, int)} para que o índice continue correto.
+ *
+ * @param <T> tipo dos elementos indexados
+ */
+public class GradeEspacial<T> {
+
+    private final int tamanhoCelula;
+    private final int colunas;
+    private final int linhas;
+    private final List<List<T>> celulas;
+    private final Map<T, Integer> celulaPorElemento;
+
+    /**
+     * @param larguraMundo  largura da área indexada
+     * @param alturaMundo   altura da área indexada
+     * @param tamanhoCelula lado de cada célula
+     */
+    public GradeEspacial(int larguraMundo, int alturaMundo, int tamanhoCelula) {
+        this.tamanhoCelula = tamanhoCelula;
+        this.colunas = Math.max(1, (larguraMundo + tamanhoCelula - 1) / tamanhoCelula);
+        this.linhas = Math.max(1, (alturaMundo + tamanhoCelula - 1) / tamanhoCelula);
+        this.celulas = new ArrayList<>(colunas * linhas);
+        for (int i = 0; i < colunas * linhas; i++) {
+            celulas.add(new ArrayList<>());
+        }
+        this.celulaPorElemento = new HashMap<>();
+    }
+
+    /**
+     * Insere o elemento ou, se já indexado, move-o para a célula da nova posição.
+     *
+     * @param elemento elemento a indexar
+     * @param x        coordenada X no mundo
+     * @param y        coordenada Y no mundo
+     */
+    public void atualizar(T elemento, int x, int y) {
+        int nova = indiceCelula(coluna(x), linha(y));
+        Integer atual = celulaPorElemento.put(elemento, nova);
+        if (atual != null) {
+            if (atual == nova)
+                return;
+            celulas.get(atual).remove(elemento);
+        }
+        celulas.get(nova).add(elemento);
+    }
+
+    /**
+     * Remove o elemento da grade, se estiver indexado.
+     *
+     * @param elemento elemento a remover
+     */
+    public void remover(T elemento) {
+        Integer atual = celulaPorElemento.remove(elemento);
+        if (atual != null) {
+            celulas.get(atual).remove(elemento);
+        }
+    }
+
+    /**
+     * Visita os elementos das células que intersectam o retângulo informado.
+     * Elementos próximos à área, mas fora dela, também podem ser visitados;
+     * cabe ao chamador o teste exato.
+     *
+     * @param minX     menor coordenada X da área
+     * @param minY     menor coordenada Y da área
+     * @param maxX     maior coordenada X da área
+     * @param maxY     maior coordenada Y da área
+     * @param visitante ação executada para cada elemento candidato
+     */
+    public void consultar(int minX, int minY, int maxX, int maxY, Consumer<T> visitante) {
+        int colunaInicial = coluna(minX);
+        int colunaFinal = coluna(maxX);
+        int linhaInicial = linha(minY);
+        int linhaFinal = linha(maxY);
+
+        for (int l = linhaInicial; l <= linhaFinal; l++) {
+            for (int c = colunaInicial; c <= colunaFinal; c++) {
+                for (T elemento : celulas.get(indiceCelula(c, l))) {
+                    visitante.accept(elemento);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna a quantidade de células da grade, numeradas linha a linha.
+     */
+    public int getQuantidadeCelulas() {
+        return celulas.size();
+    }
+
+    /**
+     * Visita os elementos de uma célula. Permite dividir a grade em faixas de
+     * células processadas em paralelo, desde que ninguém a altere enquanto isso.
+     *
+     * @param celula    índice da célula, de 0 a {@link #getQuantidadeCelulas()} - 1
+     * @param visitante ação executada para cada elemento da célula
+     */
+    public void visitarCelula(int celula, Consumer<T> visitante) {
+        for (T elemento : celulas.get(celula)) {
+            visitante.accept(elemento);
+        }
+    }
+
+    /**
+     * Remove todos os elementos da grade.
+     */
+    public void limpar() {
+        for (List<T> celula : celulas) {
+            celula.clear();
+        }
+        celulaPorElemento.clear();
+    }
+
+    /**
+     * Retorna a quantidade de elementos indexados.
+     */
+    public int getQuantidade() {
+        return celulaPorElemento.size();
+    }
+
+    private int coluna(int x) {
+        return Math.min(Math.max(0, Math.floorDiv(x, tamanhoCelula)), colunas - 1);
+    }
+
+    private int linha(int y) {
+        return Math.min(Math.max(0, Math.floorDiv(y, tamanhoCelula)), linhas - 1);
+    }
+
+    private int indiceCelula(int coluna, int linha) {
+        return linha * colunas + coluna;
+    }
+}
@@ -0,0 +1,284 @@
+package ifsc.joe.utils;
+
+import ifsc.joe.config.Constantes;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Pacote único com todos os arquivos de resources (sprites, sons, manifesto),
+ * gerado na compilação pela tarefa Gradle empacotarAssets.
+ * <p>
+ * O pacote é mapeado em memória ({@link MappedByteBuffer}) uma única vez e
+ * cada arquivo é entregue como uma fatia somente leitura do mapeamento, sem
+ * cópia, em vez de uma busca (e descompressão) no classpath por arquivo.
+ * O pacote não vai dentro do JAR: as tarefas Gradle informam o caminho dele
+ * e a distribuição o coloca ao lado do JAR. Sem pacote (ex: execução pela IDE
+ * sem o Gradle, ou só o JAR), os arquivos continuam vindo do classpath.
+ * <p>
+ * Formato (big-endian): número mágico, versão, quantidade de arquivos, índice
+ * com nome, deslocamento e tamanho de cada arquivo e, por fim, os dados.
+ */
+public final class PacoteAssets {
+
+    private static final int MAGICO = 0x4A4F4550; // "JOEP"
+    private static final int VERSAO = 1;
+
+    private static PacoteAssets instancia;
+
+    // Fatias do mapeamento por nome de arquivo; vazio sem pacote
+    private final Map<String, ByteBuffer> arquivos;
+    private final String origem;
+
+    private PacoteAssets(Map<String, ByteBuffer> arquivos, String origem) {
+        this.arquivos = arquivos;
+        this.origem = origem;
+    }
+
+    public static synchronized PacoteAssets getInstancia() {
+        if (instancia == null) {
+            instancia = abrir();
+        }
+        return instancia;
+    }
+
+    /**
+     * Localiza e mapeia o pacote: o caminho em -Djoe.assets.pacote ou
+     * {@link Constantes.Inicializacao#ARQUIVO_PACOTE} ao lado do JAR.
+     * Cada chamada cria um novo mapeamento (usado pelo benchmark); o jogo usa
+     * {@link #getInstancia()}.
+     *
+     * @return pacote mapeado, ou vazio se não houver pacote ou ele for inválido
+     */
+    public static PacoteAssets abrir() {
+        try {
+            Path arquivo = localizar();
+            if (arquivo == null) {
+                return new PacoteAssets(Map.of(), "classpath");
+            }
+            return new PacoteAssets(mapear(arquivo), arquivo.toString());
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            System.err.println("[ASSETS] Pacote inválido, usando o classpath: " + e.getMessage());
+            return new PacoteAssets(Map.of(), "classpath");
+        }
+    }
+
+    /**
+     * Retorna o conteúdo do arquivo como uma fatia somente leitura do
+     * mapeamento, sem cópia.
+     *
+     * @param nome nome do arquivo em resources (ex: aldeao.png)
+     * @return conteúdo do arquivo, ou null se não estiver no pacote
+     */
+    public ByteBuffer obter(String nome) {
+        ByteBuffer conteudo = arquivos.get(nome);
+        return conteudo == null ? null : conteudo.asReadOnlyBuffer();
+    }
+
+    /**
+     * Abre o arquivo do pacote ou, se não estiver nele, do classpath.
+     * O fluxo devolvido sempre suporta mark/reset (exigido pelo javax.sound).
+     *
+     * @param nome nome do arquivo em resources (ex: death.wav)
+     * @return fluxo do arquivo, ou null se não existir
+     */
+    public InputStream abrirArquivo(String nome) {
+        ByteBuffer conteudo = obter(nome);
+        if (conteudo != null) {
+            return new FluxoBuffer(conteudo);
+        }
+        InputStream entrada = PacoteAssets.class.getClassLoader().getResourceAsStream(nome);
+        return entrada == null ? null : new BufferedInputStream(entrada);
+    }
+
+    /**
+     * Retorna true se os arquivos vêm de um pacote mapeado.
+     */
+    public boolean isMapeado() {
+        return !arquivos.isEmpty();
+    }
+
+    public int getQuantidadeArquivos() {
+        return arquivos.size();
+    }
+
+    /**
+     * Retorna o caminho do pacote mapeado, ou "classpath" sem pacote.
+     */
+    public String getOrigem() {
+        return origem;
+    }
+
+    private static Path localizar() throws URISyntaxException {
+        String caminho = System.getProperty(Constantes.Inicializacao.PROPRIEDADE_PACOTE);
+        if (caminho != null) {
+            return Path.of(caminho);
+        }
+
+        // Executando de um JAR: usa o pacote ao lado dele (distribuição)
+        CodeSource fonte = PacoteAssets.class.getProtectionDomain().getCodeSource();
+        if (fonte != null) {
+            Path codigo = Path.of(fonte.getLocation().toURI());
+            Path vizinho = codigo.resolveSibling(Constantes.Inicializacao.ARQUIVO_PACOTE);
+            if (Files.isRegularFile(codigo) && Files.isRegularFile(vizinho)) {
+                return vizinho;
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, ByteBuffer> mapear(Path arquivo) throws IOException {
+        MappedByteBuffer mapa;
+        try (FileChannel canal = FileChannel.open(arquivo)) {
+            // O mapeamento continua válido depois de fechar o canal
+            mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+
+        if (mapa.getInt() != MAGICO || mapa.getInt() != VERSAO) {
+            throw new IOException("cabeçalho desconhecido em " + arquivo);
+        }
+        int quantidade = mapa.getInt();
+        Map<String, ByteBuffer> arquivos = new HashMap<>(quantidade * 2);
+        for (int i = 0; i < quantidade; i++) {
+            byte[] nome = new byte[mapa.getShort() & 0xFFFF];
+            mapa.get(nome);
+            int deslocamento = (int) mapa.getLong();
+            int tamanho = mapa.getInt();
+            arquivos.put(new String(nome, StandardCharsets.UTF_8), mapa.slice(deslocamento, tamanho));
+        }
+        return arquivos;
+    }
+
+    /**
+     * Grava no destino um pacote com todos os arquivos do diretório (sem subpastas).
+     *
+     * @param diretorio pasta de resources
+     * @param destino   arquivo do pacote a criar
+     * @throws IOException se algum arquivo não puder ser lido ou o pacote gravado
+     */
+    public static void empacotar(Path diretorio, Path destino) throws IOException {
+        List<Path> entradas;
+        try (Stream<Path> listagem = Files.list(diretorio)) {
+            entradas = listagem.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+
+        // Cabeçalho e índice: nome (tamanho + UTF-8), deslocamento e tamanho
+        long tamanhoIndice = 3 * Integer.BYTES;
+        for (Path entrada : entradas) {
+            tamanhoIndice += Short.BYTES + nomeEmBytes(entrada).length + Long.BYTES + Integer.BYTES;
+        }
+
+        Files.createDirectories(destino.toAbsolutePath().getParent());
+        try (OutputStream arquivo = Files.newOutputStream(destino);
+             DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(arquivo))) {
+            saida.writeInt(MAGICO);
+            saida.writeInt(VERSAO);
+            saida.writeInt(entradas.size());
+            long deslocamento = tamanhoIndice;
+            for (Path entrada : entradas) {
+                byte[] nome = nomeEmBytes(entrada);
+                long tamanho = Files.size(entrada);
+                saida.writeShort(nome.length);
+                saida.write(nome);
+                saida.writeLong(deslocamento);
+                saida.writeInt((int) tamanho);
+                deslocamento += tamanho;
+            }
+            for (Path entrada : entradas) {
+                Files.copy(entrada, saida);
+            }
+        }
+    }
+
+    private static byte[] nomeEmBytes(Path arquivo) {
+        return arquivo.getFileName().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gera o pacote. Chamado pela tarefa Gradle empacotarAssets.
+     *
+     * @param args pasta de resources e arquivo do pacote
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: PacoteAssets <pasta de resources> <arquivo do pacote>");
+            System.exit(1);
+        }
+        Path destino = Path.of(args[1]);
+        empacotar(Path.of(args[0]), destino);
+        System.out.printf("[ASSETS] Pacote gerado: %s (%,d bytes)%n", destino, Files.size(destino));
+    }
+
+    /**
+     * Fluxo de leitura sobre uma fatia do mapeamento, sem cópia intermediária.
+     */
+    private static final class FluxoBuffer extends InputStream {
+
+        private final ByteBuffer conteudo;
+
+        FluxoBuffer(ByteBuffer conteudo) {
+            this.conteudo = conteudo;
+            conteudo.mark(); // reset() sem mark volta ao início
+        }
+
+        @Override
+        public int read() {
+            return conteudo.hasRemaining() ? conteudo.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] destino, int inicio, int tamanho) {
+            if (tamanho == 0)
+                return 0;
+            if (!conteudo.hasRemaining())
+                return -1;
+            int lidos = Math.min(tamanho, conteudo.remaining());
+            conteudo.get(destino, inicio, lidos);
+            return lidos;
+        }
+
+        @Override
+        public long skip(long quantidade) {
+            int pulados = (int) Math.max(0, Math.min(quantidade, conteudo.remaining()));
+            conteudo.position(conteudo.position() + pulados);
+            return pulados;
+        }
+
+        @Override
+        public int available() {
+            return conteudo.remaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int limite) {
+            conteudo.mark();
+        }
+
+        @Override
+        public synchronized void reset() {
+            conteudo.reset();
+        }
+    }
+}
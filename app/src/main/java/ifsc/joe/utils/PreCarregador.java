@@ -0,0 +1,146 @@
+package ifsc.joe.utils;
+
+import ifsc.joe.config.Constantes;
+import ifsc.joe.enums.TipoSom;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodifica os sprites e sons listados no manifesto
+ * ({@link Constantes.Inicializacao#ARQUIVO_MANIFESTO}) em um conjunto de
+ * threads, enquanto a EDT monta a janela. Assim o primeiro personagem de cada
+ * tipo e o primeiro golpe não esperam pela leitura dos arquivos.
+ * <p>
+ * Os caches continuam carregando sob demanda: um arquivo pedido antes de a
+ * sua tarefa terminar espera por ela (ou o carrega, se ela nem começou), sem
+ * decodificá-lo duas vezes. Ao fim do carregamento e do primeiro quadro, um
+ * relatório com o tempo até o primeiro quadro e o de cada arquivo é impresso.
+ */
+public class PreCarregador {
+
+    private static final String PREFIXO = "[INICIALIZACAO] ";
+    private static final String EXTENSAO_SPRITE = ".png";
+    private static final String EXTENSAO_SOM = ".wav";
+
+    private final long inicioNanos;
+    private final Map<String, Long> temposNanos;
+    private final CompletableFuture<Void> carregamento;
+    private final CompletableFuture<Long> primeiroQuadro;
+    private long fimCarregamentoNanos;
+
+    private PreCarregador(List<String> arquivos) {
+        this.inicioNanos = System.nanoTime();
+        this.temposNanos = new ConcurrentHashMap<>();
+        this.primeiroQuadro = new CompletableFuture<>();
+
+        AtomicInteger contador = new AtomicInteger();
+        ExecutorService threads = Executors.newFixedThreadPool(Constantes.Inicializacao.THREADS_CARREGAMENTO, r -> {
+            Thread thread = new Thread(r, "pre-carregador-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletableFuture<?>[] tarefas = arquivos.stream()
+                .map(arquivo -> CompletableFuture.runAsync(() -> carregar(arquivo), threads))
+                .toArray(CompletableFuture[]::new);
+        this.carregamento = CompletableFuture.allOf(tarefas).whenComplete((r, e) -> {
+            fimCarregamentoNanos = System.nanoTime();
+            threads.shutdown();
+        });
+
+        carregamento.thenAcceptBoth(primeiroQuadro, (r, quadro) -> imprimirRelatorio(quadro));
+    }
+
+    /**
+     * Lê o manifesto e começa a decodificar os arquivos. Retorna sem esperar.
+     *
+     * @return carregador em andamento
+     */
+    public static PreCarregador iniciar() {
+        return new PreCarregador(lerManifesto());
+    }
+
+    /**
+     * Informa que o primeiro quadro foi desenhado. O relatório sai quando o
+     * carregamento também tiver terminado.
+     */
+    public void registrarPrimeiroQuadro() {
+        primeiroQuadro.complete(System.nanoTime());
+    }
+
+    /**
+     * Espera o fim do carregamento (ex: antes de medir algo que não deve incluí-lo).
+     */
+    public void aguardar() {
+        carregamento.join();
+    }
+
+    private void carregar(String arquivo) {
+        long inicio = System.nanoTime();
+        if (arquivo.endsWith(EXTENSAO_SPRITE)) {
+            CacheSprites.getInstancia().obter(arquivo.substring(0, arquivo.length() - EXTENSAO_SPRITE.length()));
+        } else if (arquivo.endsWith(EXTENSAO_SOM)) {
+            TipoSom som = TipoSom.doArquivo(arquivo);
+            if (som == null) {
+                System.err.println(PREFIXO + "Nenhum som usa " + arquivo + ", ignorado");
+                return;
+            }
+            GerenciadorAudio.getInstancia().carregarSom(som);
+        } else {
+            System.err.println(PREFIXO + "Tipo de arquivo desconhecido no manifesto: " + arquivo);
+            return;
+        }
+        temposNanos.put(arquivo, System.nanoTime() - inicio);
+    }
+
+    private void imprimirRelatorio(long primeiroQuadroNanos) {
+        long somaNanos = temposNanos.values().stream().mapToLong(Long::longValue).sum();
+        System.out.printf(PREFIXO + "Primeiro quadro em %.1fms (%dms desde o início da JVM)%n",
+                (primeiroQuadroNanos - inicioNanos) / 1_000_000.0,
+                ManagementFactory.getRuntimeMXBean().getUptime()
+                        - (System.nanoTime() - primeiroQuadroNanos) / 1_000_000);
+        System.out.printf(PREFIXO + "%d arquivos em %.1fms (threads: %d, soma dos tempos: %.1fms)%n",
+                temposNanos.size(), (fimCarregamentoNanos - inicioNanos) / 1_000_000.0,
+                Constantes.Inicializacao.THREADS_CARREGAMENTO, somaNanos / 1_000_000.0);
+        System.out.println(PREFIXO + "Origem dos arquivos: " + PacoteAssets.getInstancia().getOrigem());
+        temposNanos.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(tempo -> System.out.printf(PREFIXO + "  %-22s %7.1fms%n",
+                        tempo.getKey(), tempo.getValue() / 1_000_000.0));
+    }
+
+    private static List<String> lerManifesto() {
+        List<String> arquivos = new ArrayList<>();
+        InputStream entrada = PacoteAssets.getInstancia().abrirArquivo(Constantes.Inicializacao.ARQUIVO_MANIFESTO);
+        if (entrada == null) {
+            System.err.println(PREFIXO + "Manifesto não encontrado, os arquivos serão carregados sob demanda");
+            return arquivos;
+        }
+
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                linha = linha.strip();
+                if (!linha.isEmpty() && !linha.startsWith("#")) {
+                    arquivos.add(linha);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println(PREFIXO + "Erro ao ler o manifesto: " + e.getMessage());
+        }
+        return arquivos;
+    }
+}
@@ -0,0 +1,18 @@
+package ifsc.joe;
+
+import ifsc.joe.audio.AudioSilencioso;
+import ifsc.joe.utils.GerenciadorAudio;
+import org.junit.BeforeClass;
+
+/**
+ * Base dos testes que criam personagens: roda sem janela e sem som, para os
+ * testes não dependerem de monitor nem de dispositivo de áudio.
+ */
+public abstract class TesteSemInterface {
+
+    @BeforeClass
+    public static void configurarAmbiente() {
+        System.setProperty("java.awt.headless", "true");
+        GerenciadorAudio.getInstancia().setDestino(new AudioSilencioso());
+    }
+}
@@ -0,0 +1,153 @@
+package ifsc.joe.domain;
+
+import ifsc.joe.TesteSemInterface;
+import ifsc.joe.domain.impl.Aldeao;
+import ifsc.joe.domain.impl.Arqueiro;
+import ifsc.joe.domain.impl.Cavaleiro;
+import ifsc.joe.enums.Direcao;
+import ifsc.joe.enums.TipoPersonagem;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Confere que as listas de índices por tipo continuam de acordo com os
+ * vetores do armazém depois de remoções no início, no meio e no fim.
+ */
+public class ArmazemEntidadesTest extends TesteSemInterface {
+
+    private static final int PERSONAGENS = 30;
+
+    private ArmazemEntidades armazem;
+    private List<Personagem> vivos;
+
+    @Before
+    public void criarPersonagens() {
+        // Capacidade pequena para os vetores também crescerem durante o teste
+        armazem = new ArmazemEntidades(4);
+        vivos = new ArrayList<>();
+        // Tipos intercalados de forma irregular, para as listas terem tamanhos diferentes
+        for (int i = 0; i < PERSONAGENS; i++) {
+            int x = i * 10;
+            switch (i % 5) {
+                case 0, 3 -> vivos.add(new Aldeao(armazem, x, x));
+                case 1 -> vivos.add(new Arqueiro(armazem, x, x));
+                default -> vivos.add(new Cavaleiro(armazem, x, x));
+            }
+        }
+        verificarConsistencia();
+    }
+
+    @Test
+    public void removerDoInicio() {
+        remover(0);
+        remover(0);
+    }
+
+    @Test
+    public void removerDoMeio() {
+        remover(armazem.getQuantidade() / 2);
+        remover(armazem.getQuantidade() / 2);
+    }
+
+    @Test
+    public void removerDoFim() {
+        remover(armazem.getQuantidade() - 1);
+        remover(armazem.getQuantidade() - 1);
+    }
+
+    @Test
+    public void removerTodosAlternandoPosicoes() {
+        int passo = 0;
+        while (armazem.getQuantidade() > 0) {
+            int quantidade = armazem.getQuantidade();
+            switch (passo++ % 3) {
+                case 0 -> remover(0);
+                case 1 -> remover(quantidade / 2);
+                default -> remover(quantidade - 1);
+            }
+        }
+        for (TipoPersonagem tipo : TipoPersonagem.values()) {
+            assertEquals(0, armazem.getQuantidade(tipo));
+        }
+    }
+
+    @Test
+    public void removidosGuardamOProprioEstado() {
+        Personagem primeiro = armazem.getPersonagem(0);
+        Personagem segundo = armazem.getPersonagem(1);
+        TipoPersonagem tipoPrimeiro = primeiro.getTipo();
+        int xPrimeiro = primeiro.getPosX();
+        TipoPersonagem tipoSegundo = segundo.getTipo();
+        int xSegundo = segundo.getPosX();
+
+        remover(primeiro.getIndice());
+        remover(segundo.getIndice());
+
+        assertTrue(primeiro.isRemovido());
+        assertEquals(tipoPrimeiro, primeiro.getTipo());
+        assertEquals(xPrimeiro, primeiro.getPosX());
+        assertEquals(tipoSegundo, segundo.getTipo());
+        assertEquals(xSegundo, segundo.getPosX());
+
+        // Comandos em uma visão removida não alteram nada
+        int vida = primeiro.getVida();
+        primeiro.sofrerDano(vida);
+        primeiro.mover(Direcao.DIREITA, 10_000, 10_000);
+        assertEquals(vida, primeiro.getVida());
+        assertEquals(xPrimeiro, primeiro.getPosX());
+        verificarConsistencia();
+    }
+
+    private void remover(int indice) {
+        vivos.remove(armazem.getPersonagem(indice));
+        armazem.remover(indice);
+        verificarConsistencia();
+    }
+
+    /**
+     * Cada lista por tipo deve ter exatamente os índices daquele tipo, sem
+     * repetições, e cada visão viva deve apontar para o próprio índice.
+     */
+    private void verificarConsistencia() {
+        assertEquals(vivos.size(), armazem.getQuantidade());
+
+        Set<Personagem> visoes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < armazem.getQuantidade(); i++) {
+            Personagem visao = armazem.getPersonagem(i);
+            assertEquals(i, visao.getIndice());
+            assertSame(armazem, visao.getArmazem());
+            visoes.add(visao);
+        }
+        assertEquals(vivos.size(), visoes.size());
+        assertTrue(visoes.containsAll(vivos));
+
+        for (TipoPersonagem tipo : TipoPersonagem.values()) {
+            int esperados = 0;
+            for (int i = 0; i < armazem.getQuantidade(); i++) {
+                if (armazem.getTipo(i) == tipo) {
+                    esperados++;
+                }
+            }
+            assertEquals("quantidade de " + tipo, esperados, armazem.getQuantidade(tipo));
+
+            boolean[] vistos = new boolean[armazem.getQuantidade()];
+            for (int k = 0; k < armazem.getQuantidade(tipo); k++) {
+                int i = armazem.getIndice(tipo, k);
+                assertEquals("tipo do índice " + i, tipo, armazem.getTipo(i));
+                assertFalse("índice " + i + " repetido na lista de " + tipo, vistos[i]);
+                vistos[i] = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ifsc.joe.domain;
+
+import ifsc.joe.TesteSemInterface;
+import ifsc.joe.benchmark.BenchmarkCombate;
+import ifsc.joe.config.Constantes;
+import ifsc.joe.utils.GradeEspacial;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Confere que a resolução do combate no ForkJoinPool acumula exatamente os
+ * mesmos danos e golpes que a resolução em uma thread.
+ */
+public class ResolvedorCombateTest extends TesteSemInterface {
+
+    private static final long SEMENTE = 42L;
+    // Personagens suficientes para a grade ser dividida em várias tarefas
+    private static final int PERSONAGENS_POR_TIPO = 2000;
+
+    @Test
+    public void serialEParaleloAcumulamOsMesmosDanos() {
+        ArmazemEntidades armazem = new ArmazemEntidades(PERSONAGENS_POR_TIPO * 3);
+        Random rnd = new Random(SEMENTE);
+        GradeEspacial<Personagem> grade = BenchmarkCombate.criarMundo(armazem, rnd, PERSONAGENS_POR_TIPO);
+
+        // Só parte dos personagens ataca, para os atacantes também variarem por célula
+        int total = armazem.getQuantidade();
+        boolean[] atacantes = new boolean[total];
+        for (int i = 0; i < total; i++) {
+            atacantes[i] = rnd.nextBoolean();
+        }
+
+        int[] danosSerial = new int[total];
+        int[] golpesSerial = new int[total];
+        new ResolvedorCombate(armazem, grade, Constantes.Grade.TAMANHO_CELULA, false)
+                .acumularDanos(atacantes, danosSerial, golpesSerial);
+
+        int[] danosParalelo = new int[total];
+        int[] golpesParalelo = new int[total];
+        new ResolvedorCombate(armazem, grade, Constantes.Grade.TAMANHO_CELULA, true)
+                .acumularDanos(atacantes, danosParalelo, golpesParalelo);
+
+        assertTrue("o mundo de teste precisa ter golpes", Arrays.stream(golpesSerial).sum() > 0);
+        assertArrayEquals(danosSerial, danosParalelo);
+        assertArrayEquals(golpesSerial, golpesParalelo);
+    }
+}
@@ -0,0 +1,84 @@
+package ifsc.joe.eventos;
+
+import ifsc.joe.TesteSemInterface;
+import ifsc.joe.audio.AudioGravado;
+import ifsc.joe.enums.TipoEvento;
+import ifsc.joe.enums.TipoSom;
+import ifsc.joe.simulacao.ExecutorSimulacao;
+import ifsc.joe.simulacao.MotorSimulacao;
+import ifsc.joe.utils.GerenciadorAudio;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Roda uma partida roteirizada com o {@link ConsumidorAudio} no barramento e
+ * o {@link AudioGravado} como destino, e confere os sons pedidos por tipo
+ * contra os eventos publicados pelo motor.
+ */
+public class ConsumidorAudioTest extends TesteSemInterface {
+
+    private static final long SEMENTE = 11L;
+    private static final int PERSONAGENS_POR_TIPO = 100;
+    private static final int PASSOS = 1500;
+
+    // Contagens dos eventos que viram som: ataques iniciados, danos sem morte e danos fatais
+    private static final int ATAQUES_INICIADOS = 0;
+    private static final int DANOS = 1;
+    private static final int MORTES = 2;
+
+    private AudioGravado gravado;
+
+    @Before
+    public void configurar() {
+        gravado = new AudioGravado();
+        GerenciadorAudio.getInstancia().setDestino(gravado);
+    }
+
+    @Test
+    public void umSomPorEventoDoMotor() {
+        Random rnd = new Random(SEMENTE);
+        MotorSimulacao motor = new MotorSimulacao(rnd);
+        BarramentoEventos eventos = motor.getEventos();
+        EstatisticasEventos estatisticas = new EstatisticasEventos();
+        AtomicLongArray contagens = new AtomicLongArray(3);
+        eventos.registrar("audio", new ConsumidorAudio());
+        eventos.registrar("estatisticas", estatisticas);
+        eventos.registrar("contagem", evento -> {
+            if (evento.getTipo() == TipoEvento.ATACAR && evento.isAtivo()) {
+                contagens.incrementAndGet(ATAQUES_INICIADOS);
+            } else if (evento.getTipo() == TipoEvento.DANO) {
+                contagens.incrementAndGet(evento.isAtivo() ? MORTES : DANOS);
+            }
+        });
+
+        ExecutorSimulacao.povoarMundo(motor, rnd, PERSONAGENS_POR_TIPO);
+        new ExecutorSimulacao(motor, 0).executar(PASSOS, ExecutorSimulacao.roteiroPadrao(motor, rnd));
+        eventos.aguardarConsumo();
+
+        for (TipoSom som : new TipoSom[]{TipoSom.CRIACAO_ALDEAO, TipoSom.CRIACAO_ARQUEIRO, TipoSom.CRIACAO_CAVALEIRO}) {
+            assertEquals(som.name(), PERSONAGENS_POR_TIPO, gravado.getContagem(som));
+        }
+        assertEquals(contagens.get(ATAQUES_INICIADOS), gravado.getContagem(TipoSom.ATAQUE));
+
+        // Um som de dano ou de morte por alvo atingido em cada ataque
+        assertTrue("o roteiro precisa causar danos", estatisticas.getContagem(TipoEvento.DANO) > 0);
+        assertEquals(estatisticas.getContagem(TipoEvento.DANO),
+                gravado.getContagem(TipoSom.DANO) + gravado.getContagem(TipoSom.MORTE));
+        assertEquals(contagens.get(DANOS), gravado.getContagem(TipoSom.DANO));
+        assertEquals(contagens.get(MORTES), gravado.getContagem(TipoSom.MORTE));
+        // Quem morreu já saiu do mundo ou ainda está no fade-out
+        assertEquals(motor.getTotalBaixas() + motor.getQuantidadeMorrendo(), gravado.getContagem(TipoSom.MORTE));
+
+        assertEquals(estatisticas.getContagem(TipoEvento.COLETA), gravado.getContagem(TipoSom.COLETA));
+        // O fim do fade-out e a montaria não têm som
+        assertEquals(estatisticas.getContagem(TipoEvento.CRIACAO) + contagens.get(ATAQUES_INICIADOS)
+                + estatisticas.getContagem(TipoEvento.DANO) + estatisticas.getContagem(TipoEvento.COLETA),
+                gravado.getTotal());
+    }
+}
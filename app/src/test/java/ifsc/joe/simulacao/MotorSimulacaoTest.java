@@ -0,0 +1,46 @@
+package ifsc.joe.simulacao;
+
+import ifsc.joe.TesteSemInterface;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Confere que o motor é determinístico: dois motores com a mesma semente e o
+ * mesmo roteiro chegam ao mesmo estado.
+ */
+public class MotorSimulacaoTest extends TesteSemInterface {
+
+    private static final long SEMENTE = 7L;
+    private static final int PERSONAGENS_POR_TIPO = 100;
+    private static final int PASSOS = 1500;
+
+    @Test
+    public void mesmaSementeEMesmoRoteiroChegamAoMesmoEstado() {
+        MotorSimulacao primeiro = simular(SEMENTE);
+        MotorSimulacao segundo = simular(SEMENTE);
+
+        assertTrue("o roteiro precisa causar baixas", primeiro.getTotalBaixas() > 0);
+        assertEquals(ExecutorSimulacao.calcularResumoEstado(primeiro),
+                ExecutorSimulacao.calcularResumoEstado(segundo));
+        assertEquals(primeiro.getQuantidadePersonagens(), segundo.getQuantidadePersonagens());
+        assertEquals(primeiro.getTotalBaixas(), segundo.getTotalBaixas());
+        assertEquals(primeiro.getEstoqueComida(), segundo.getEstoqueComida());
+        assertEquals(primeiro.getEstoqueOuro(), segundo.getEstoqueOuro());
+        assertEquals(primeiro.getEstoqueMadeira(), segundo.getEstoqueMadeira());
+    }
+
+    /**
+     * Monta o mundo do {@link ExecutorSimulacao} com a semente e roda o roteiro
+     * padrão, com comandos sorteados pelo mesmo gerador.
+     */
+    private static MotorSimulacao simular(long semente) {
+        Random rnd = new Random(semente);
+        MotorSimulacao motor = ExecutorSimulacao.criarMundo(rnd, PERSONAGENS_POR_TIPO);
+        new ExecutorSimulacao(motor, 0).executar(PASSOS, ExecutorSimulacao.roteiroPadrao(motor, rnd));
+        return motor;
+    }
+}